@@ -0,0 +1,77 @@
+package com.miniats.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that keeps only one in {@code every} DEBUG/TRACE lines of
+ * the configured logger prefixes (counted per message template), so hot paths can
+ * run at DEBUG without writing a line per request. Configured in logback-spring.xml.
+ * At most {@code maxTemplates} templates are counted; beyond that (e.g. messages
+ * built by concatenation) lines are counted per logger.
+ */
+public class DebugSamplingFilter extends TurboFilter {
+
+    private String[] prefixes = new String[0];
+    private int every = 1;
+    private int maxTemplates = 1000;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> loggerCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Comma-separated logger name prefixes to sample
+     */
+    public void setLoggers(String loggers) {
+        this.prefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public void setEvery(int every) {
+        this.every = every;
+    }
+
+    public void setMaxTemplates(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isDebugEnabled() checks; only actual log calls are sampled
+        if (every <= 1 || format == null || level == null || level.isGreaterOrEqual(Level.INFO)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long count = counter(logger, format).getAndIncrement();
+        return count % every == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private AtomicLong counter(Logger logger, String format) {
+        AtomicLong counter = counters.get(format);
+        if (counter != null) {
+            return counter;
+        }
+        // Size check is racy; concurrent callers may overshoot the cap by a few entries
+        return counters.size() < maxTemplates
+                ? counters.computeIfAbsent(format, key -> new AtomicLong())
+                : loggerCounters.computeIfAbsent(logger.getName(), key -> new AtomicLong());
+    }
+
+    private boolean isSampled(String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
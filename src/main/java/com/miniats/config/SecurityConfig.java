@@ -1,6 +1,11 @@
 package com.miniats.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniats.resilience.IdempotencyStore;
+import com.miniats.resilience.TenantRateLimiter;
+import com.miniats.security.IdempotencyFilter;
 import com.miniats.security.JwtAuthenticationFilter;
+import com.miniats.security.TenantRateLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,9 +27,20 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final TenantRateLimiter tenantRateLimiter;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            TenantRateLimiter tenantRateLimiter,
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper
+    ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.tenantRateLimiter = tenantRateLimiter;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
     }
 
     @Bean
@@ -42,6 +58,9 @@ public class SecurityConfig {
 
                 // Configure authorization
                 .authorizeHttpRequests(auth -> auth
+                        // Per-organization traffic counters
+                        .requestMatchers("/health/rate-limits").hasRole("ADMIN")
+
                         // Public endpoints (no authentication required)
                         .requestMatchers("/health/**", "/auth/**", "/users/email/**").permitAll()
 
@@ -55,7 +74,13 @@ public class SecurityConfig {
                 )
 
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Replay retried writes (keys are per user), before they count against quotas
+                .addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper), JwtAuthenticationFilter.class)
+
+                // Per-organization quotas, once the user's organization is known
+                .addFilterAfter(new TenantRateLimitFilter(tenantRateLimiter, objectMapper), IdempotencyFilter.class);
 
         return http.build();
     }
@@ -73,6 +98,7 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "X-Next-Cursor", "Retry-After", IdempotencyFilter.REPLAYED_HEADER));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -2,9 +2,11 @@ package com.miniats.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +29,9 @@ public class SupabaseConfig {
     @Value("${supabase.service-role-key}")
     private String supabaseServiceRoleKey;
 
+    @Value("${supabase.http.response-timeout-ms:10000}")
+    private long responseTimeoutMillis;
+
     /**
      * Get Supabase base URL
      */
@@ -56,17 +61,29 @@ public class SupabaseConfig {
     }
 
     /**
-     * Configure HTTP client with connection pooling
+     * Connection pool shared by all Supabase calls (its stats feed the readiness probe)
      */
     @Bean
-    public CloseableHttpClient httpClient() {
+    public PoolingHttpClientConnectionManager supabaseConnectionManager() {
         PoolingHttpClientConnectionManager connectionManager =
                 new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(100);
-        connectionManager.setDefaultMaxPerRoute(20);
+        // Everything goes to one host; per-table bulkheads bound concurrency instead
+        connectionManager.setDefaultMaxPerRoute(100);
+        return connectionManager;
+    }
 
+    /**
+     * Configure HTTP client with connection pooling
+     */
+    @Bean
+    public CloseableHttpClient httpClient() {
+        // Without a response timeout a stalled Supabase holds request threads indefinitely
         return HttpClients.custom()
-                .setConnectionManager(connectionManager)
+                .setConnectionManager(supabaseConnectionManager())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
                 .build();
     }
 
@@ -1,11 +1,15 @@
 package com.miniats.controller;
 
 import com.miniats.dto.ActivityDTO;
+import com.miniats.dto.ActivityFeedDTO;
 import com.miniats.service.ActivityService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,6 +19,8 @@ import java.util.UUID;
 @RequestMapping("/activities")
 public class ActivityController extends BaseController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ActivityService activityService;
 
     public ActivityController(ActivityService activityService) {
@@ -34,15 +40,52 @@ public class ActivityController extends BaseController {
     }
 
     /**
-     * Get all activities for an organization
-     * GET /api/activities/organization/{organizationId}
+     * Get the timeline of a single application, oldest first
+     * GET /api/activities/application/{applicationId}
+     */
+    @GetMapping("/application/{applicationId}")
+    public ResponseEntity<ApiResponse<List<ActivityDTO>>> getActivitiesByApplication(
+            @PathVariable UUID applicationId
+    ) {
+        return success(activityService.getActivitiesByApplication(applicationId));
+    }
+
+    /**
+     * Get an organization's activity feed, newest first.
+     * Filters are optional; follow the X-Next-Cursor response header for older pages.
+     * GET /api/activities/organization/{organizationId}?from=&to=&type=&candidateId=&cursor=&limit=
      */
     @GetMapping("/organization/{organizationId}")
     public ResponseEntity<ApiResponse<List<ActivityDTO>>> getActivitiesByOrganization(
-            @PathVariable UUID organizationId
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) Set<String> type,
+            @RequestParam(required = false) UUID candidateId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<ActivityDTO> activities = activityService.getActivitiesByOrganization(organizationId);
-        return success(activities);
+        ActivityFeedDTO feed = activityService.getActivityFeed(organizationId, from, to, type, candidateId, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (feed.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, feed.nextCursor());
+        }
+        return response.body(new ApiResponse<>(true, feed.activities(), null, Instant.now()));
+    }
+
+    /**
+     * Get archived activities of an organization (older than the retention age), newest first
+     * GET /api/activities/organization/{organizationId}/archive?from=&to=&type=&limit=
+     */
+    @GetMapping("/organization/{organizationId}/archive")
+    public ResponseEntity<ApiResponse<List<ActivityDTO>>> getArchivedActivities(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) Set<String> type,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return success(activityService.getArchivedActivities(organizationId, from, to, type, limit));
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.miniats.controller;
+
+import com.miniats.dto.FunnelReportDTO;
+import com.miniats.service.FunnelAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for hiring analytics.
+ * Base path: /analytics
+ */
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController extends BaseController {
+
+    private final FunnelAnalyticsService funnelAnalyticsService;
+
+    public AnalyticsController(FunnelAnalyticsService funnelAnalyticsService) {
+        this.funnelAnalyticsService = funnelAnalyticsService;
+    }
+
+    /**
+     * Stage conversion and time in stage for an organization
+     * GET /api/analytics/funnel/organization/{organizationId}
+     */
+    @GetMapping("/funnel/organization/{organizationId}")
+    public ResponseEntity<ApiResponse<FunnelReportDTO>> getOrganizationFunnel(
+            @PathVariable UUID organizationId
+    ) {
+        return success(funnelAnalyticsService.getOrganizationFunnel(organizationId));
+    }
+
+    /**
+     * Stage conversion and time in stage for a single job
+     * GET /api/analytics/funnel/job/{jobId}
+     */
+    @GetMapping("/funnel/job/{jobId}")
+    public ResponseEntity<ApiResponse<FunnelReportDTO>> getJobFunnel(
+            @PathVariable UUID jobId
+    ) {
+        return success(funnelAnalyticsService.getJobFunnel(jobId));
+    }
+}
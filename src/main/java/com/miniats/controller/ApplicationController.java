@@ -1,14 +1,26 @@
 package com.miniats.controller;
 
 import com.miniats.dto.ApplicationDTO;
+import com.miniats.dto.BulkOperationResultDTO;
+import com.miniats.dto.NormalizedApplicationsDTO;
+import com.miniats.repository.FieldSelection;
 import com.miniats.service.ApplicationService;
+import com.miniats.service.ExportService;
+import com.miniats.service.KanbanEventHub;
+import com.miniats.service.OrganizationVersions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Application management and Kanban board.
@@ -20,129 +32,182 @@ public class ApplicationController extends BaseController {
 
     private static final Logger logger = LoggerFactory.getLogger(ApplicationController.class);
 
+    private static final String SHAPE_FULL = "full";
+    private static final String SHAPE_NORMALIZED = "normalized";
+
     private final ApplicationService applicationService;
+    private final ExportService exportService;
+    private final KanbanEventHub kanbanEventHub;
+    private final OrganizationVersions organizationVersions;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(
+            ApplicationService applicationService,
+            ExportService exportService,
+            KanbanEventHub kanbanEventHub,
+            OrganizationVersions organizationVersions
+    ) {
         this.applicationService = applicationService;
+        this.exportService = exportService;
+        this.kanbanEventHub = kanbanEventHub;
+        this.organizationVersions = organizationVersions;
     }
 
     /**
-     * GET /api/applications/{id}
+     * GET /api/applications/{id}?fields=
      * Get application by ID (with enriched data)
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ApplicationDTO>> getApplicationById(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/{} - Fetching application", id);
-        ApplicationDTO application = applicationService.getApplicationById(id);
-        return success(application);
+        ApplicationDTO application = FieldSelection.parse(fields, ApplicationDTO.class)
+                .project(applicationService.getApplicationById(id));
+        return success(request, application, EntityTags.of(application));
     }
 
     /**
-     * GET /api/applications/job/{jobId}
+     * GET /api/applications/job/{jobId}?shape=full|normalized&fields=
      * Get all applications for a job (Kanban view for single job)
      */
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getApplicationsByJob(
-            @PathVariable UUID jobId
+    public ResponseEntity<ApiResponse<Object>> getApplicationsByJob(
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/job/{} - Fetching applications", jobId);
-        List<ApplicationDTO> applications = applicationService.getApplicationsByJob(jobId);
-        return success(applications);
+        List<ApplicationDTO> applications = applicationService.getApplicationsByJob(
+                jobId, fieldSelection(fields, shape));
+        return shaped(request, shape, applications);
     }
 
     /**
-     * GET /api/applications/job/{jobId}/status/{status}
+     * GET /api/applications/job/{jobId}/status/{status}?shape=full|normalized&fields=
      * Get applications by job and status (Kanban column)
      */
     @GetMapping("/job/{jobId}/status/{status}")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getApplicationsByJobAndStatus(
+    public ResponseEntity<ApiResponse<Object>> getApplicationsByJobAndStatus(
             @PathVariable UUID jobId,
-            @PathVariable String status
+            @PathVariable String status,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/job/{}/status/{} - Fetching applications",
                 jobId, status);
         List<ApplicationDTO> applications = applicationService.getApplicationsByJobAndStatus(
                 jobId, status);
-        return success(applications);
+        return shaped(request, shape, project(fieldSelection(fields, shape), applications));
     }
 
     /**
-     * GET /api/applications/candidate/{candidateId}
+     * GET /api/applications/candidate/{candidateId}?shape=full|normalized&fields=
      * Get all applications for a candidate
      */
     @GetMapping("/candidate/{candidateId}")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getApplicationsByCandidate(
-            @PathVariable UUID candidateId
+    public ResponseEntity<ApiResponse<Object>> getApplicationsByCandidate(
+            @PathVariable UUID candidateId,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/candidate/{} - Fetching applications", candidateId);
         List<ApplicationDTO> applications = applicationService.getApplicationsByCandidate(
                 candidateId);
-        return success(applications);
+        return shaped(request, shape, project(fieldSelection(fields, shape), applications));
     }
 
     /**
-     * GET /api/applications/organization/{organizationId}
+     * GET /api/applications/organization/{organizationId}?shape=full|normalized&fields=
      * Get all applications for an organization (Full Kanban view)
      */
     @GetMapping("/organization/{organizationId}")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getApplicationsByOrganization(
-            @PathVariable UUID organizationId
+    public ResponseEntity<ApiResponse<Object>> getApplicationsByOrganization(
+            @PathVariable UUID organizationId,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/organization/{} - Fetching applications",
                 organizationId);
-        List<ApplicationDTO> applications = applicationService.getApplicationsByOrganization(
-                organizationId);
-        return success(applications);
+        FieldSelection selection = fieldSelection(fields, shape);
+        return shaped(request, shape, EntityTags.variant(versionTag("applications", organizationId), selection),
+                () -> project(selection, applicationService.getApplicationsByOrganization(organizationId)));
+    }
+
+    /**
+     * GET /api/applications/organization/{organizationId}/events?jobId=
+     * Stream Kanban deltas (Server-Sent Events); resumes from the Last-Event-ID header
+     */
+    @GetMapping(value = "/organization/{organizationId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamKanbanEvents(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) UUID jobId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        logger.info("GET /api/applications/organization/{}/events - Opening stream (job: {}, lastEventId: {})",
+                organizationId, jobId, lastEventId);
+        return kanbanEventHub.subscribe(organizationId, jobId, parseEventId(lastEventId));
     }
 
     /**
-     * GET /api/applications/organization/{organizationId}/job/{jobId}
+     * GET /api/applications/organization/{organizationId}/job/{jobId}?shape=full|normalized&fields=
      * Get applications by organization and job (Filtered Kanban)
      */
     @GetMapping("/organization/{organizationId}/job/{jobId}")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getApplicationsByOrganizationAndJob(
+    public ResponseEntity<ApiResponse<Object>> getApplicationsByOrganizationAndJob(
             @PathVariable UUID organizationId,
-            @PathVariable UUID jobId
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/organization/{}/job/{} - Fetching applications",
                 organizationId, jobId);
-        List<ApplicationDTO> applications = applicationService.getApplicationsByOrganizationAndJob(
-                organizationId, jobId);
-        return success(applications);
+        FieldSelection selection = fieldSelection(fields, shape);
+        return shaped(request, shape, EntityTags.variant(versionTag("applications/job/" + jobId, organizationId), selection),
+                () -> project(selection, applicationService.getApplicationsByOrganizationAndJob(organizationId, jobId)));
     }
 
     /**
-     * GET /api/applications/organization/{organizationId}/status/{status}
+     * GET /api/applications/organization/{organizationId}/status/{status}?shape=full|normalized&fields=
      * Get applications by organization and status (Kanban column across all jobs)
      */
     @GetMapping("/organization/{organizationId}/status/{status}")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getApplicationsByOrganizationAndStatus(
+    public ResponseEntity<ApiResponse<Object>> getApplicationsByOrganizationAndStatus(
             @PathVariable UUID organizationId,
-            @PathVariable String status
+            @PathVariable String status,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/applications/organization/{}/status/{} - Fetching applications",
                 organizationId, status);
-        List<ApplicationDTO> applications =
-                applicationService.getApplicationsByOrganizationAndStatus(organizationId, status);
-        return success(applications);
+        FieldSelection selection = fieldSelection(fields, shape);
+        return shaped(request, shape, EntityTags.variant(versionTag("applications/status/" + status, organizationId), selection),
+                () -> project(selection, applicationService.getApplicationsByOrganizationAndStatus(organizationId, status)));
     }
 
     /**
-     * GET /api/applications/organization/{organizationId}/search
+     * GET /api/applications/organization/{organizationId}/search?shape=full|normalized&fields=
      * Search applications by candidate name within organization
      */
     @GetMapping("/organization/{organizationId}/search")
-    public ResponseEntity<ApiResponse<List<ApplicationDTO>>> searchApplicationsByCandidateName(
+    public ResponseEntity<ApiResponse<Object>> searchApplicationsByCandidateName(
             @PathVariable UUID organizationId,
-            @RequestParam String candidateName
+            @RequestParam String candidateName,
+            @RequestParam(defaultValue = SHAPE_FULL) String shape,
+            @RequestParam(required = false) String fields
     ) {
         logger.info("GET /api/applications/organization/{}/search?candidateName={}",
                 organizationId, candidateName);
-        List<ApplicationDTO> applications =
-                applicationService.searchApplicationsByCandidateName(organizationId, candidateName);
-        return success(applications);
+        List<ApplicationDTO> applications = project(fieldSelection(fields, shape),
+                applicationService.searchApplicationsByCandidateName(organizationId, candidateName));
+        return success(isNormalized(shape) ? NormalizedApplicationsDTO.of(applications) : applications);
     }
 
     /**
@@ -241,6 +306,50 @@ public class ApplicationController extends BaseController {
         return noContent();
     }
 
+    /**
+     * PATCH /api/applications/bulk/status
+     * Move many applications to one status (multi-select in Kanban)
+     */
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkOperationResultDTO>> bulkUpdateStatus(
+            @RequestBody BulkStatusRequest request
+    ) {
+        logger.info("PATCH /api/applications/bulk/status - Moving {} applications to: {}",
+                request.ids != null ? request.ids.size() : 0, request.status);
+        BulkOperationResultDTO result = applicationService.bulkUpdateStatus(
+                request.ids, request.status, request.notes);
+        return success(result);
+    }
+
+    /**
+     * PATCH /api/applications/bulk/reject
+     * Reject many applications at once
+     */
+    @PatchMapping("/bulk/reject")
+    public ResponseEntity<ApiResponse<BulkOperationResultDTO>> bulkRejectApplications(
+            @RequestBody BulkRejectRequest request
+    ) {
+        logger.info("PATCH /api/applications/bulk/reject - Rejecting {} applications",
+                request.ids != null ? request.ids.size() : 0);
+        BulkOperationResultDTO result = applicationService.bulkRejectApplications(
+                request.ids, request.reason);
+        return success(result);
+    }
+
+    /**
+     * POST /api/applications/bulk/delete
+     * Delete many applications at once
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<BulkOperationResultDTO>> bulkDeleteApplications(
+            @RequestBody BulkDeleteRequest request
+    ) {
+        logger.info("POST /api/applications/bulk/delete - Deleting {} applications",
+                request.ids != null ? request.ids.size() : 0);
+        BulkOperationResultDTO result = applicationService.bulkDeleteApplications(request.ids);
+        return success(result);
+    }
+
     /**
      * GET /api/applications/job/{jobId}/count
      * Get application count for job
@@ -269,6 +378,26 @@ public class ApplicationController extends BaseController {
         return success(count);
     }
 
+    /**
+     * GET /api/applications/organization/{organizationId}/export?format=ndjson|csv
+     * Stream all applications for an organization (with job title and candidate name)
+     */
+    @GetMapping("/organization/{organizationId}/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @PathVariable UUID organizationId,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        logger.info("GET /api/applications/organization/{}/export?format={} - Streaming export",
+                organizationId, format);
+        ExportService.Format exportFormat = ExportService.Format.fromString(format);
+        StreamingResponseBody body = out -> exportService.exportApplications(organizationId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"applications-" + organizationId + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     /**
      * GET /api/applications/organization/{organizationId}/count
      * Get application count for organization
@@ -296,6 +425,61 @@ public class ApplicationController extends BaseController {
         return success(stats);
     }
 
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // Unknown position: treated as out of range, so the client is told to resync
+            return -1L;
+        }
+    }
+
+    /**
+     * Respond with an application list in the requested shape; each shape has its own ETag
+     */
+    private ResponseEntity<ApiResponse<Object>> shaped(WebRequest request, String shape, List<ApplicationDTO> applications) {
+        String etag = EntityTags.of(applications);
+        return isNormalized(shape)
+                ? success(request, NormalizedApplicationsDTO.of(applications), EntityTags.variant(etag, SHAPE_NORMALIZED))
+                : success(request, applications, etag);
+    }
+
+    private ResponseEntity<ApiResponse<Object>> shaped(
+            WebRequest request,
+            String shape,
+            String etag,
+            Supplier<List<ApplicationDTO>> loader
+    ) {
+        return isNormalized(shape)
+                ? success(request, EntityTags.variant(etag, SHAPE_NORMALIZED), () -> NormalizedApplicationsDTO.of(loader.get()))
+                : success(request, etag, loader::get);
+    }
+
+    /**
+     * Parse fields=; the normalized shape needs the candidate and job IDs to key its side tables
+     */
+    private static FieldSelection fieldSelection(String fields, String shape) {
+        FieldSelection selection = FieldSelection.parse(fields, ApplicationDTO.class);
+        return isNormalized(shape) ? selection.with("candidateId", "jobId") : selection;
+    }
+
+    private static boolean isNormalized(String shape) {
+        if (SHAPE_NORMALIZED.equalsIgnoreCase(shape)) {
+            return true;
+        }
+        if (SHAPE_FULL.equalsIgnoreCase(shape)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown shape: " + shape + " (expected full or normalized)");
+    }
+
+    private String versionTag(String scope, UUID organizationId) {
+        return EntityTags.of(scope, organizationVersions.get(organizationId), organizationVersions.tagSlot());
+    }
+
     /**
      * Request object for updating status
      */
@@ -315,4 +499,19 @@ public class ApplicationController extends BaseController {
      * Request object for updating notes
      */
     public record UpdateNotesRequest(String notes) {}
+
+    /**
+     * Request object for bulk status update
+     */
+    public record BulkStatusRequest(List<UUID> ids, String status, String notes) {}
+
+    /**
+     * Request object for bulk reject
+     */
+    public record BulkRejectRequest(List<UUID> ids, String reason) {}
+
+    /**
+     * Request object for bulk delete
+     */
+    public record BulkDeleteRequest(List<UUID> ids) {}
 }
\ No newline at end of file
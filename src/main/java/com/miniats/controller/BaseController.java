@@ -1,11 +1,15 @@
 package com.miniats.controller;
 
+import com.miniats.repository.FieldSelection;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Base controller with common response utilities.
@@ -19,6 +23,39 @@ public abstract class BaseController {
         return ResponseEntity.ok(new ApiResponse<>(true, data, null, Instant.now()));
     }
 
+    /**
+     * Create success response with an ETag, or 304 Not Modified (no body is
+     * serialized) when the client's If-None-Match already matches
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> success(WebRequest request, T data, String etag) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(new ApiResponse<>(true, data, null, Instant.now()));
+    }
+
+    /**
+     * Like success(request, data, etag) but the ETag is known before loading
+     * (e.g. from an organization version), so a match skips the load entirely
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> success(WebRequest request, String etag, Supplier<T> loader) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(new ApiResponse<>(true, loader.get(), null, Instant.now()));
+    }
+
+    /**
+     * Apply a sparse fieldset to already loaded DTOs (unselected fields are not serialized)
+     */
+    protected static <T extends Record> List<T> project(FieldSelection fields, List<T> items) {
+        return fields.isAll() ? items : items.stream().map(fields::project).toList();
+    }
+
     /**
      * Create success response with message
      */
@@ -34,6 +71,14 @@ public abstract class BaseController {
                 .body(new ApiResponse<>(true, data, null, Instant.now()));
     }
 
+    /**
+     * Create accepted response (202) for work that continues in the background
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> accepted(T data) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>(true, data, null, Instant.now()));
+    }
+
     /**
      * Create no content response (204)
      */
@@ -1,13 +1,30 @@
 package com.miniats.controller;
 
 import com.miniats.dto.CandidateDTO;
+import com.miniats.dto.CandidateFacetResultDTO;
+import com.miniats.dto.DuplicateClusterDTO;
+import com.miniats.dto.ImportJobDTO;
+import com.miniats.repository.FieldSelection;
+import com.miniats.service.CandidateFacetIndex;
+import com.miniats.service.CandidateImportService;
 import com.miniats.service.CandidateService;
+import com.miniats.service.ExportService;
+import com.miniats.service.OrganizationVersions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,9 +38,20 @@ public class CandidateController extends BaseController {
     private static final Logger logger = LoggerFactory.getLogger(CandidateController.class);
 
     private final CandidateService candidateService;
+    private final ExportService exportService;
+    private final CandidateImportService candidateImportService;
+    private final OrganizationVersions organizationVersions;
 
-    public CandidateController(CandidateService candidateService) {
+    public CandidateController(
+            CandidateService candidateService,
+            ExportService exportService,
+            CandidateImportService candidateImportService,
+            OrganizationVersions organizationVersions
+    ) {
         this.candidateService = candidateService;
+        this.exportService = exportService;
+        this.candidateImportService = candidateImportService;
+        this.organizationVersions = organizationVersions;
     }
 
     /**
@@ -38,45 +66,83 @@ public class CandidateController extends BaseController {
     }
 
     /**
-     * GET /api/candidates/{id}
+     * GET /api/candidates/{id}?fields=
      * Get candidate by ID
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CandidateDTO>> getCandidateById(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/candidates/{} - Fetching candidate", id);
-        CandidateDTO candidate = candidateService.getCandidateById(id);
-        return success(candidate);
+        FieldSelection selection = FieldSelection.parse(fields, CandidateDTO.class);
+        CandidateDTO candidate = selection.project(candidateService.getCandidateById(id));
+        return success(request, candidate, EntityTags.of(candidate));
     }
 
     /**
-     * GET /api/candidates/organization/{organizationId}
+     * GET /api/candidates/organization/{organizationId}?fields=
      * Get all candidates for an organization
      */
     @GetMapping("/organization/{organizationId}")
     public ResponseEntity<ApiResponse<List<CandidateDTO>>> getCandidatesByOrganization(
-            @PathVariable UUID organizationId
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/candidates/organization/{} - Fetching candidates", organizationId);
-        List<CandidateDTO> candidates = candidateService.getCandidatesByOrganization(organizationId);
-        return success(candidates);
+        FieldSelection selection = FieldSelection.parse(fields, CandidateDTO.class);
+        return success(request, EntityTags.variant(versionTag("candidates", organizationId), selection),
+                () -> candidateService.getCandidatesByOrganization(organizationId, selection));
     }
 
     /**
-     * GET /api/candidates/organization/{organizationId}/search
+     * GET /api/candidates/organization/{organizationId}/search?fields=
      * Search candidates by name within organization
      */
     @GetMapping("/organization/{organizationId}/search")
     public ResponseEntity<ApiResponse<List<CandidateDTO>>> searchCandidatesByName(
             @PathVariable UUID organizationId,
-            @RequestParam String name
+            @RequestParam String name,
+            @RequestParam(required = false) String fields
     ) {
         logger.info("GET /api/candidates/organization/{}/search?name={} - Searching candidates",
                 organizationId, name);
+        FieldSelection selection = FieldSelection.parse(fields, CandidateDTO.class);
         List<CandidateDTO> candidates = candidateService.searchCandidatesByName(
                 organizationId, name);
-        return success(candidates);
+        return success(project(selection, candidates));
+    }
+
+    /**
+     * GET /api/candidates/organization/{organizationId}/filter
+     * Faceted filtering by city, availability, educationLevel, isExperienced and skills.
+     * Repeat a parameter to OR values within a facet; skills must all match.
+     */
+    @GetMapping("/organization/{organizationId}/filter")
+    public ResponseEntity<ApiResponse<CandidateFacetResultDTO>> filterCandidates(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) List<String> city,
+            @RequestParam(required = false) List<String> availability,
+            @RequestParam(required = false) List<String> educationLevel,
+            @RequestParam(required = false) List<String> isExperienced,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        logger.info("GET /api/candidates/organization/{}/filter - Faceted candidate query", organizationId);
+
+        Map<String, Set<String>> filters = new HashMap<>();
+        if (city != null) filters.put(CandidateFacetIndex.CITY, new HashSet<>(city));
+        if (availability != null) filters.put(CandidateFacetIndex.AVAILABILITY, new HashSet<>(availability));
+        if (educationLevel != null) filters.put(CandidateFacetIndex.EDUCATION_LEVEL, new HashSet<>(educationLevel));
+        if (isExperienced != null) filters.put(CandidateFacetIndex.IS_EXPERIENCED, new HashSet<>(isExperienced));
+        if (skills != null) filters.put(CandidateFacetIndex.SKILLS, new HashSet<>(skills));
+
+        CandidateFacetResultDTO result = candidateService.filterCandidates(
+                organizationId, filters, page, size);
+        return success(result);
     }
 
     /**
@@ -123,6 +189,60 @@ public class CandidateController extends BaseController {
         return created(created);
     }
 
+    /**
+     * POST /api/candidates/duplicates/check
+     * Check a candidate payload for likely duplicates before creating it
+     */
+    @PostMapping("/duplicates/check")
+    public ResponseEntity<ApiResponse<List<DuplicateClusterDTO.DuplicatePair>>> checkDuplicates(
+            @RequestBody CandidateDTO candidateDTO
+    ) {
+        logger.info("POST /api/candidates/duplicates/check - Checking duplicates for: {}",
+                candidateDTO.fullName());
+        List<DuplicateClusterDTO.DuplicatePair> duplicates = candidateService.checkDuplicates(candidateDTO);
+        return success(duplicates);
+    }
+
+    /**
+     * GET /api/candidates/organization/{organizationId}/duplicates
+     * Cluster all suspected duplicate candidates in an organization
+     */
+    @GetMapping("/organization/{organizationId}/duplicates")
+    public ResponseEntity<ApiResponse<List<DuplicateClusterDTO>>> findDuplicateClusters(
+            @PathVariable UUID organizationId
+    ) {
+        logger.info("GET /api/candidates/organization/{}/duplicates - Scanning for duplicates",
+                organizationId);
+        List<DuplicateClusterDTO> clusters = candidateService.findDuplicateClusters(organizationId);
+        return success(clusters);
+    }
+
+    /**
+     * POST /api/candidates/organization/{organizationId}/import
+     * Start a bulk CSV import (multipart field "file"); poll the returned job for progress
+     */
+    @PostMapping(value = "/organization/{organizationId}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportJobDTO>> importCandidates(
+            @PathVariable UUID organizationId,
+            @RequestParam("file") MultipartFile file
+    ) {
+        logger.info("POST /api/candidates/organization/{}/import - Importing {}",
+                organizationId, file.getOriginalFilename());
+        ImportJobDTO job = candidateImportService.startImport(organizationId, file);
+        return accepted(job);
+    }
+
+    /**
+     * GET /api/candidates/import/{jobId}
+     * Get progress and per-row error report for a bulk import
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobDTO>> getImportJob(@PathVariable UUID jobId) {
+        logger.info("GET /api/candidates/import/{} - Fetching import progress", jobId);
+        ImportJobDTO job = candidateImportService.getImportJob(jobId);
+        return success(job);
+    }
+
     /**
      * PUT /api/candidates/{id}
      * Update candidate
@@ -148,6 +268,26 @@ public class CandidateController extends BaseController {
         return noContent();
     }
 
+    /**
+     * GET /api/candidates/organization/{organizationId}/export?format=ndjson|csv
+     * Stream all candidates for an organization
+     */
+    @GetMapping("/organization/{organizationId}/export")
+    public ResponseEntity<StreamingResponseBody> exportCandidates(
+            @PathVariable UUID organizationId,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        logger.info("GET /api/candidates/organization/{}/export?format={} - Streaming export",
+                organizationId, format);
+        ExportService.Format exportFormat = ExportService.Format.fromString(format);
+        StreamingResponseBody body = out -> exportService.exportCandidates(organizationId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"candidates-" + organizationId + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     /**
      * GET /api/candidates/organization/{organizationId}/count
      * Get candidate count for organization
@@ -161,4 +301,8 @@ public class CandidateController extends BaseController {
         long count = candidateService.getCandidateCount(organizationId);
         return success(count);
     }
-}
\ No newline at end of file
+
+    private String versionTag(String scope, UUID organizationId) {
+        return EntityTags.of(scope, organizationVersions.get(organizationId), organizationVersions.tagSlot());
+    }
+}
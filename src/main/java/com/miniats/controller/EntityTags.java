@@ -0,0 +1,96 @@
+package com.miniats.controller;
+
+import com.miniats.dto.VersionedDTO;
+import com.miniats.repository.FieldSelection;
+import com.miniats.service.OrganizationVersions;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Strong entity tags for API responses.
+ * Derived either from IDs, updatedAt and the DTO value itself (record hash, which
+ * also covers enriched nested data), so computing one never serializes the body,
+ * or from an organization version plus a time slot, so validating one never loads
+ * the data and a tag still expires when the data changed outside this instance.
+ */
+final class EntityTags {
+
+    private static final int TAG_BYTES = 16;
+
+    private EntityTags() {
+    }
+
+    /**
+     * Tag for a single DTO
+     */
+    static String of(VersionedDTO dto) {
+        return of(List.of(dto));
+    }
+
+    /**
+     * Tag for a list of DTOs (order-sensitive, like the response body)
+     */
+    static String of(Collection<? extends VersionedDTO> dtos) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 5);
+        buffer.putLong(dtos.size());
+        digest.update(buffer.array(), 0, Long.BYTES);
+        for (VersionedDTO dto : dtos) {
+            buffer.clear();
+            UUID id = dto.id();
+            Instant updatedAt = dto.updatedAt();
+            buffer.putLong(id != null ? id.getMostSignificantBits() : 0)
+                    .putLong(id != null ? id.getLeastSignificantBits() : 0)
+                    .putLong(updatedAt != null ? updatedAt.getEpochSecond() : 0)
+                    .putLong(updatedAt != null ? updatedAt.getNano() : 0)
+                    .putLong(dto.hashCode());
+            digest.update(buffer.array());
+        }
+        return quote(digest.digest());
+    }
+
+    /**
+     * Tag for an organization-scoped view, valid until the organization's next write
+     * or the end of the time slot, whichever comes first.
+     * The scope must identify the view (path and parameters) within the organization.
+     */
+    static String of(String scope, OrganizationVersions.Version version, long slot) {
+        String key = scope + '|' + version.organizationId() + '|' + version.token() + '|' + slot;
+        return quote(sha256().digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tag for another representation (e.g. response shape) of an already tagged view
+     */
+    static String variant(String etag, String variant) {
+        String key = etag + '|' + variant;
+        return quote(sha256().digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tag for a sparse fieldset of an already tagged view
+     */
+    static String variant(String etag, FieldSelection fields) {
+        return fields.isAll() ? etag : variant(etag, "fields=" + fields);
+    }
+
+    private static String quote(byte[] hash) {
+        return '"' + HexFormat.of().formatHex(hash, 0, TAG_BYTES) + '"';
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
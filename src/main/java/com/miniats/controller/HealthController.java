@@ -1,8 +1,14 @@
 package com.miniats.controller;
 
 import com.miniats.config.SupabaseConfig;
+import com.miniats.resilience.IdempotencyStore;
+import com.miniats.resilience.SupabaseResilience;
+import com.miniats.resilience.TenantRateLimiter;
+import com.miniats.dto.ReadinessDTO;
+import com.miniats.service.ReadinessService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,9 +29,23 @@ public class HealthController extends BaseController {
     private static final Logger logger = LoggerFactory.getLogger(HealthController.class);
 
     private final SupabaseConfig supabaseConfig;
+    private final SupabaseResilience supabaseResilience;
+    private final TenantRateLimiter tenantRateLimiter;
+    private final ReadinessService readinessService;
+    private final IdempotencyStore idempotencyStore;
 
-    public HealthController(SupabaseConfig supabaseConfig) {
+    public HealthController(
+            SupabaseConfig supabaseConfig,
+            SupabaseResilience supabaseResilience,
+            TenantRateLimiter tenantRateLimiter,
+            ReadinessService readinessService,
+            IdempotencyStore idempotencyStore
+    ) {
         this.supabaseConfig = supabaseConfig;
+        this.supabaseResilience = supabaseResilience;
+        this.tenantRateLimiter = tenantRateLimiter;
+        this.readinessService = readinessService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     /**
@@ -46,27 +66,45 @@ public class HealthController extends BaseController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> status() {
         logger.debug("GET /api/health/status - Detailed status check");
 
+        ReadinessDTO readiness = readinessService.check();
         Map<String, Object> status = new HashMap<>();
         status.put("application", "Mini-ATS");
         status.put("version", "1.0.0");
-        status.put("status", "UP");
+        status.put("status", readiness.status());
         status.put("timestamp", Instant.now());
         status.put("supabase", Map.of(
                 "configured", supabaseConfig.getSupabaseUrl() != null,
-                "url", maskUrl(supabaseConfig.getSupabaseUrl())
+                "url", maskUrl(supabaseConfig.getSupabaseUrl()),
+                "tables", supabaseResilience.getMetrics()
         ));
+        status.put("rateLimits", tenantRateLimiter.getSummary());
+        status.put("readiness", readiness);
+        status.put("idempotency", idempotencyStore.getMetrics());
 
         return success(status);
     }
 
+    /**
+     * GET /api/health/rate-limits
+     * Per-organization rate limit counters (ADMIN only, see SecurityConfig)
+     */
+    @GetMapping("/rate-limits")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> rateLimits() {
+        logger.debug("GET /api/health/rate-limits - Per-organization rate limits");
+        return success(tenantRateLimiter.getMetrics());
+    }
+
     /**
      * GET /api/health/ready
-     * Readiness probe (for Kubernetes/Docker)
+     * Readiness probe (for Kubernetes/Docker); 503 while any readiness check is DOWN
      */
     @GetMapping("/ready")
-    public ResponseEntity<ApiResponse<String>> ready() {
+    public ResponseEntity<? extends ApiResponse<?>> ready() {
         logger.debug("GET /api/health/ready - Readiness check");
-        // Add checks for database connectivity, etc.
+        ReadinessDTO readiness = readinessService.check();
+        if (!readiness.ready()) {
+            return error("NOT_READY: " + String.join("; ", readiness.reasons()), HttpStatus.SERVICE_UNAVAILABLE);
+        }
         return success("READY");
     }
 
@@ -1,11 +1,14 @@
 package com.miniats.controller;
 
 import com.miniats.dto.JobDTO;
+import com.miniats.repository.FieldSelection;
 import com.miniats.service.JobService;
+import com.miniats.service.OrganizationVersions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,9 +24,11 @@ public class JobController extends BaseController {
     private static final Logger logger = LoggerFactory.getLogger(JobController.class);
 
     private final JobService jobService;
+    private final OrganizationVersions organizationVersions;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, OrganizationVersions organizationVersions) {
         this.jobService = jobService;
+        this.organizationVersions = organizationVersions;
     }
 
     /**
@@ -38,40 +43,51 @@ public class JobController extends BaseController {
     }
 
     /**
-     * GET /api/jobs/{id}
+     * GET /api/jobs/{id}?fields=
      * Get job by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<JobDTO>> getJobById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<JobDTO>> getJobById(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
+            WebRequest request
+    ) {
         logger.info("GET /api/jobs/{} - Fetching job", id);
-        JobDTO job = jobService.getJobById(id);
-        return success(job);
+        FieldSelection selection = FieldSelection.parse(fields, JobDTO.class);
+        JobDTO job = selection.project(jobService.getJobById(id));
+        return success(request, job, EntityTags.of(job));
     }
 
     /**
-     * GET /api/jobs/organization/{organizationId}
+     * GET /api/jobs/organization/{organizationId}?fields=
      * Get all jobs for an organization
      */
     @GetMapping("/organization/{organizationId}")
     public ResponseEntity<ApiResponse<List<JobDTO>>> getJobsByOrganization(
-            @PathVariable UUID organizationId
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/jobs/organization/{} - Fetching jobs", organizationId);
-        List<JobDTO> jobs = jobService.getJobsByOrganization(organizationId);
-        return success(jobs);
+        FieldSelection selection = FieldSelection.parse(fields, JobDTO.class);
+        return success(request, EntityTags.variant(versionTag("jobs", organizationId), selection),
+                () -> jobService.getJobsByOrganization(organizationId, selection));
     }
 
     /**
-     * GET /api/jobs/organization/{organizationId}/active
+     * GET /api/jobs/organization/{organizationId}/active?fields=
      * Get active jobs for an organization
      */
     @GetMapping("/organization/{organizationId}/active")
     public ResponseEntity<ApiResponse<List<JobDTO>>> getActiveJobsByOrganization(
-            @PathVariable UUID organizationId
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) String fields,
+            WebRequest request
     ) {
         logger.info("GET /api/jobs/organization/{}/active - Fetching active jobs", organizationId);
-        List<JobDTO> jobs = jobService.getActiveJobsByOrganization(organizationId);
-        return success(jobs);
+        FieldSelection selection = FieldSelection.parse(fields, JobDTO.class);
+        return success(request, EntityTags.variant(versionTag("jobs/active", organizationId), selection),
+                () -> project(selection, jobService.getActiveJobsByOrganization(organizationId)));
     }
 
     /**
@@ -218,6 +234,10 @@ public class JobController extends BaseController {
         return success(count);
     }
 
+    private String versionTag(String scope, UUID organizationId) {
+        return EntityTags.of(scope, organizationVersions.get(organizationId), organizationVersions.tagSlot());
+    }
+
     /**
      * Request object for updating status
      */
@@ -1,7 +1,10 @@
 package com.miniats.controller;
 
+import com.miniats.dto.DashboardDTO;
 import com.miniats.dto.OrganizationDTO;
+import com.miniats.service.DashboardService;
 import com.miniats.service.OrganizationService;
+import com.miniats.service.OrganizationVersions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -21,9 +24,17 @@ public class OrganizationController extends BaseController {
     private static final Logger logger = LoggerFactory.getLogger(OrganizationController.class);
 
     private final OrganizationService organizationService;
+    private final OrganizationVersions organizationVersions;
+    private final DashboardService dashboardService;
 
-    public OrganizationController(OrganizationService organizationService) {
+    public OrganizationController(
+            OrganizationService organizationService,
+            OrganizationVersions organizationVersions,
+            DashboardService dashboardService
+    ) {
         this.organizationService = organizationService;
+        this.organizationVersions = organizationVersions;
+        this.dashboardService = dashboardService;
     }
 
     /**
@@ -50,6 +61,30 @@ public class OrganizationController extends BaseController {
         return success(organization);
     }
 
+    /**
+     * GET /api/organizations/{id}/version
+     * Get the organization's data version (changes on every write through the API)
+     */
+    @GetMapping("/{id}/version")
+    public ResponseEntity<ApiResponse<OrganizationVersions.Version>> getOrganizationVersion(
+            @PathVariable UUID id
+    ) {
+        logger.info("GET /api/organizations/{}/version - Fetching data version", id);
+        return success(organizationVersions.get(id));
+    }
+
+    /**
+     * GET /api/organizations/{id}/dashboard
+     * Get the landing dashboard (counts, Kanban totals and recent activities) in one call
+     */
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<ApiResponse<DashboardDTO>> getDashboard(
+            @PathVariable UUID id
+    ) {
+        logger.info("GET /api/organizations/{}/dashboard - Fetching dashboard", id);
+        return success(dashboardService.getDashboard(id));
+    }
+
     /**
      * GET /api/organizations/name/{name}
      * Get organization by name
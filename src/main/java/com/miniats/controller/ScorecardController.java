@@ -1,5 +1,6 @@
 package com.miniats.controller;
 
+import com.miniats.dto.JobScorecardRankingDTO;
 import com.miniats.dto.ScorecardDTO;
 import com.miniats.service.ScorecardService;
 import org.springframework.http.ResponseEntity;
@@ -38,6 +39,17 @@ public class ScorecardController extends BaseController {
         }
     }
 
+    /**
+     * Rank a job's candidates by overall score, with per-dimension statistics
+     * GET /api/scorecards/job/{jobId}/ranking
+     */
+    @GetMapping("/job/{jobId}/ranking")
+    public ResponseEntity<ApiResponse<JobScorecardRankingDTO>> getJobRanking(
+            @PathVariable UUID jobId
+    ) {
+        return success(scorecardService.getJobRanking(jobId));
+    }
+
     /**
      * Create or update scorecard for a candidate
      * POST /api/scorecards
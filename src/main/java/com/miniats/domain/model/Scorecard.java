@@ -1,7 +1,6 @@
 package com.miniats.domain.model;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -10,6 +9,12 @@ import java.util.UUID;
  * Represents a candidate evaluation with 5 scoring categories.
  */
 public final class Scorecard {
+
+    /**
+     * Marker for getOverallScoreTenths() when no category is scored
+     */
+    public static final int NO_SCORE = -1;
+
     private final UUID id;
     private final UUID candidateId;
     private final UUID organizationId;
@@ -22,7 +27,7 @@ public final class Scorecard {
     private final Integer problemSolving;
 
     // Metadata
-    private final BigDecimal overallScore; // Calculated average
+    private final int overallScoreTenths; // Calculated average in tenths (42 = 4.2)
     private final UUID evaluatedBy;
     private final String notes;
 
@@ -38,7 +43,7 @@ public final class Scorecard {
         this.culturalFit = builder.culturalFit;
         this.experienceLevel = builder.experienceLevel;
         this.problemSolving = builder.problemSolving;
-        this.overallScore = calculateOverallScore(
+        this.overallScoreTenths = calculateOverallScoreTenths(
                 builder.technicalSkills,
                 builder.communication,
                 builder.culturalFit,
@@ -52,15 +57,12 @@ public final class Scorecard {
     }
 
     /**
-     * Calculate overall score as average of all categories
+     * Calculate overall score as average of all categories, in tenths
+     * rounded half up (fixed-point, so no BigDecimal per entity)
      */
-    private BigDecimal calculateOverallScore(
+    private static int calculateOverallScoreTenths(
             Integer tech, Integer comm, Integer culture, Integer exp, Integer problem
     ) {
-        if (tech == null && comm == null && culture == null && exp == null && problem == null) {
-            return null;
-        }
-
         int count = 0;
         int sum = 0;
 
@@ -70,10 +72,10 @@ public final class Scorecard {
         if (exp != null) { sum += exp; count++; }
         if (problem != null) { sum += problem; count++; }
 
-        if (count == 0) return null;
+        if (count == 0) return NO_SCORE;
 
-        return BigDecimal.valueOf(sum)
-                .divide(BigDecimal.valueOf(count), 1, RoundingMode.HALF_UP);
+        // round(10 * sum / count) half up == (20 * sum + count) / (2 * count) for non-negative sums
+        return (20 * sum + count) / (2 * count);
     }
 
     // Getters
@@ -109,8 +111,19 @@ public final class Scorecard {
         return problemSolving;
     }
 
+    /**
+     * Overall score in tenths (42 = 4.2), or NO_SCORE
+     */
+    public int getOverallScoreTenths() {
+        return overallScoreTenths;
+    }
+
+    /**
+     * Overall score with one decimal, created on demand for API and storage
+     * boundaries; use getOverallScoreTenths() in loops
+     */
     public BigDecimal getOverallScore() {
-        return overallScore;
+        return overallScoreTenths != NO_SCORE ? BigDecimal.valueOf(overallScoreTenths, 1) : null;
     }
 
     public UUID getEvaluatedBy() {
@@ -255,7 +268,7 @@ public final class Scorecard {
         return "Scorecard{" +
                 "id=" + id +
                 ", candidateId=" + candidateId +
-                ", overallScore=" + overallScore +
+                ", overallScore=" + getOverallScore() +
                 ", evaluatedBy=" + evaluatedBy +
                 '}';
     }
@@ -0,0 +1,14 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Immutable DTO for one page of an organization's activity feed.
+ * nextCursor is null on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ActivityFeedDTO(
+        List<ActivityDTO> activities,
+        String nextCursor
+) {}
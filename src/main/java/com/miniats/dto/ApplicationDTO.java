@@ -23,7 +23,7 @@ public record ApplicationDTO(
         // Enriched fields for Kanban view
         CandidateDTO candidate,
         JobDTO job
-) {
+) implements VersionedDTO {
 
     /**
      * Convert domain entity to DTO (without enrichment)
@@ -71,6 +71,16 @@ public record ApplicationDTO(
         );
     }
 
+    /**
+     * Same application without the enriched candidate and job data
+     */
+    public ApplicationDTO withoutEnrichment() {
+        if (candidate == null && job == null) {
+            return this;
+        }
+        return new ApplicationDTO(id, jobId, candidateId, status, stageOrder, appliedAt, updatedAt, notes, null, null);
+    }
+
     /**
      * Convert DTO to domain entity
      */
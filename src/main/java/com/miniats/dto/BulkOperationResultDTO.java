@@ -0,0 +1,25 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for the outcome of a bulk Kanban operation.
+ * Items are validated independently, so one bad ID never fails the whole batch.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOperationResultDTO(
+        int requested,
+        List<UUID> succeeded,
+        List<ItemFailure> failed
+) {
+
+    /**
+     * An application the operation was not applied to, and why
+     */
+    public record ItemFailure(
+            UUID applicationId,
+            String error
+    ) {}
+}
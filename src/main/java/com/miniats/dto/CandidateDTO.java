@@ -29,7 +29,7 @@ public record CandidateDTO(
         String summary,
         Instant createdAt,
         Instant updatedAt
-) {
+) implements VersionedDTO {
 
     /**
      * Convert domain entity to DTO
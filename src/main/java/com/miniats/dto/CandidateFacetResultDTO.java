@@ -0,0 +1,21 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for a faceted candidate query.
+ * Carries every matching ID, one page of candidates and per-facet value counts.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CandidateFacetResultDTO(
+        List<UUID> matchingIds,
+        List<CandidateDTO> candidates,
+        Map<String, Map<String, Integer>> facets,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {}
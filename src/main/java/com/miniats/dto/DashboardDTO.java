@@ -0,0 +1,23 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for an organization's landing dashboard.
+ * applicationsByStatus is in pipeline order; applicationCount is its total.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DashboardDTO(
+        UUID organizationId,
+        long jobCount,
+        long activeJobCount,
+        long candidateCount,
+        long applicationCount,
+        Map<String, Long> applicationsByStatus,
+        List<ActivityDTO> recentActivities,
+        Instant computedAt
+) {}
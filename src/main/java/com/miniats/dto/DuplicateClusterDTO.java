@@ -0,0 +1,27 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for a cluster of suspected duplicate candidates.
+ * Pairs explain which comparisons linked the cluster together.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DuplicateClusterDTO(
+        List<UUID> candidateIds,
+        List<DuplicatePair> pairs
+) {
+
+    /**
+     * A scored candidate pair; candidateId is null when checking an unsaved candidate
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record DuplicatePair(
+            UUID candidateId,
+            UUID duplicateId,
+            double score,
+            String reason
+    ) {}
+}
@@ -0,0 +1,49 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for hiring funnel analytics of an organization or a single job.
+ * Stages count every application that reached them, including ones that skipped
+ * ahead; time in stage covers completed stays only.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FunnelReportDTO(
+        UUID organizationId,
+        UUID jobId,
+        long applications,
+        List<StageConversion> conversions,
+        Double overallConversionRate,
+        List<StageMetrics> stages,
+        Instant trackingSince
+) {
+
+    /**
+     * Conversion between two consecutive pipeline stages
+     */
+    public record StageConversion(
+            String from,
+            String to,
+            long entered,
+            long converted,
+            Double rate
+    ) {}
+
+    /**
+     * Counts and time-in-stage quantiles for one status
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record StageMetrics(
+            String status,
+            long reached,
+            long current,
+            long rejectedFrom,
+            long completedStays,
+            Double meanHours,
+            Double medianHours,
+            Double p90Hours
+    ) {}
+}
@@ -0,0 +1,37 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for a bulk candidate import job.
+ * Used for progress polling and the per-row error report.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportJobDTO(
+        UUID jobId,
+        UUID organizationId,
+        String status,
+        long rowsRead,
+        long imported,
+        long skipped,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        Instant startedAt,
+        Instant finishedAt,
+        String message
+) {
+
+    /**
+     * A rejected row; line is the CSV line number the record started on
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RowError(
+            long line,
+            String email,
+            String error
+    ) {}
+}
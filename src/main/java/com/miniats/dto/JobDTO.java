@@ -22,7 +22,7 @@ public record JobDTO(
         UUID createdBy,
         Instant createdAt,
         Instant updatedAt
-) {
+) implements VersionedDTO {
 
     /**
      * Convert domain entity to DTO
@@ -0,0 +1,58 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for a job's scorecard leaderboard.
+ * Candidates are ranked by overall score (ties share a rank, unscored last),
+ * with statistics for the overall score and each scoring dimension.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobScorecardRankingDTO(
+        UUID jobId,
+        int pipelineSize,
+        int scoredCount,
+        List<RankedCandidate> ranking,
+        ScoreStats overall,
+        Map<String, ScoreStats> dimensions
+) {
+
+    /**
+     * One candidate in the job pipeline; rank is null when not yet scored
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RankedCandidate(
+            Integer rank,
+            UUID applicationId,
+            UUID candidateId,
+            String candidateName,
+            String status,
+            BigDecimal overallScore,
+            Integer technicalSkills,
+            Integer communication,
+            Integer culturalFit,
+            Integer experienceLevel,
+            Integer problemSolving
+    ) {}
+
+    /**
+     * Summary of one score; percentiles use the nearest-rank method and
+     * distribution counts scores per whole point (1-5)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ScoreStats(
+            long count,
+            Double average,
+            Double min,
+            Double max,
+            Double p25,
+            Double median,
+            Double p75,
+            Double p90,
+            Map<Integer, Long> distribution
+    ) {}
+}
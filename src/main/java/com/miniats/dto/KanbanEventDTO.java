@@ -0,0 +1,29 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for a Kanban delta pushed over Server-Sent Events.
+ * eventId is sequential per organization and doubles as the SSE id used to resume.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record KanbanEventDTO(
+        long eventId,
+        String type,
+        UUID organizationId,
+        UUID jobId,
+        UUID applicationId,
+        UUID candidateId,
+        String status,
+        String previousStatus,
+        Integer stageOrder,
+        String notes,
+        Instant occurredAt
+) {
+    public static final String APPLICATION_CREATED = "application_created";
+    public static final String STATUS_CHANGED = "status_changed";
+    public static final String NOTES_UPDATED = "notes_updated";
+    public static final String APPLICATION_DELETED = "application_deleted";
+}
@@ -0,0 +1,40 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable DTO for the normalized shape of an application list.
+ * Applications reference their candidate and job by ID only; each candidate and
+ * job appears once in the side tables, keyed by ID.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NormalizedApplicationsDTO(
+        List<ApplicationDTO> applications,
+        Map<UUID, CandidateDTO> candidates,
+        Map<UUID, JobDTO> jobs
+) {
+
+    /**
+     * Move the enriched candidate and job data of a list into side tables
+     */
+    public static NormalizedApplicationsDTO of(List<ApplicationDTO> enriched) {
+        Map<UUID, CandidateDTO> candidates = new LinkedHashMap<>();
+        Map<UUID, JobDTO> jobs = new LinkedHashMap<>();
+        List<ApplicationDTO> applications = enriched.stream()
+                .peek(application -> {
+                    if (application.candidate() != null) {
+                        candidates.putIfAbsent(application.candidateId(), application.candidate());
+                    }
+                    if (application.job() != null) {
+                        jobs.putIfAbsent(application.jobId(), application.job());
+                    }
+                })
+                .map(ApplicationDTO::withoutEnrichment)
+                .toList();
+        return new NormalizedApplicationsDTO(applications, candidates, jobs);
+    }
+}
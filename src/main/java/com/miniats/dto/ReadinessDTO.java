@@ -0,0 +1,34 @@
+package com.miniats.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable DTO for the readiness report.
+ * The instance is ready when no check is DOWN; DEGRADED checks are reported only.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReadinessDTO(
+        boolean ready,
+        String status,
+        List<String> reasons,
+        Map<String, Check> checks,
+        Instant checkedAt
+) {
+
+    public static final String UP = "UP";
+    public static final String DEGRADED = "DEGRADED";
+    public static final String DOWN = "DOWN";
+
+    /**
+     * Outcome of one check with the metrics it was based on
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Check(
+            String status,
+            String reason,
+            Map<String, Object> metrics
+    ) {}
+}
@@ -25,7 +25,7 @@ public record ScorecardDTO(
         String notes,
         Instant createdAt,
         Instant updatedAt
-) {
+) implements VersionedDTO {
 
     /**
      * Convert domain entity to DTO
@@ -0,0 +1,14 @@
+package com.miniats.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO with identity and last-modified time, used to derive entity tags.
+ */
+public interface VersionedDTO {
+
+    UUID id();
+
+    Instant updatedAt();
+}
@@ -2,6 +2,7 @@ package com.miniats.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -41,6 +42,54 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle TransientRepositoryException (data store down, slow or overloaded; retry later)
+     */
+    @ExceptionHandler(TransientRepositoryException.class)
+    public ResponseEntity<ErrorResponse> handleTransientRepositoryException(
+            TransientRepositoryException ex,
+            WebRequest request
+    ) {
+        logger.warn("Data store temporarily unavailable: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service temporarily unavailable, please retry later",
+                Instant.now(),
+                request.getDescription(false)
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handle PermanentRepositoryException (request rejected by the data store)
+     */
+    @ExceptionHandler(PermanentRepositoryException.class)
+    public ResponseEntity<ErrorResponse> handlePermanentRepositoryException(
+            PermanentRepositoryException ex,
+            WebRequest request
+    ) {
+        logger.error("Data store error: {}", ex.getMessage(), ex);
+
+        // A unique or foreign key violation is the caller's conflict, anything else is ours
+        HttpStatus status = ex.getUpstreamStatus() == HttpStatus.CONFLICT.value()
+                ? HttpStatus.CONFLICT
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                status == HttpStatus.CONFLICT
+                        ? "Request conflicts with existing data"
+                        : "An unexpected error occurred",
+                Instant.now(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
     /**
      * Handle IllegalArgumentException
      */
@@ -0,0 +1,22 @@
+package com.miniats.exception;
+
+/**
+ * Data store failure that will not go away on retry
+ * (rejected request, constraint violation, unreadable response).
+ */
+public class PermanentRepositoryException extends RepositoryException {
+
+    private final int upstreamStatus;
+
+    public PermanentRepositoryException(String message, int upstreamStatus, Throwable cause) {
+        super(message, cause);
+        this.upstreamStatus = upstreamStatus;
+    }
+
+    /**
+     * HTTP status returned by the data store, or 0 if there was no response
+     */
+    public int getUpstreamStatus() {
+        return upstreamStatus;
+    }
+}
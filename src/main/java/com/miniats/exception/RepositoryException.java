@@ -0,0 +1,16 @@
+package com.miniats.exception;
+
+/**
+ * Base class for failures talking to the data store.
+ * Subclasses tell callers whether retrying can help.
+ */
+public abstract class RepositoryException extends RuntimeException {
+
+    protected RepositoryException(String message) {
+        super(message);
+    }
+
+    protected RepositoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
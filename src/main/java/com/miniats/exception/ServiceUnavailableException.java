@@ -0,0 +1,12 @@
+package com.miniats.exception;
+
+/**
+ * Exception thrown when a call is rejected before reaching the data store
+ * (circuit open or concurrency limit reached).
+ */
+public class ServiceUnavailableException extends TransientRepositoryException {
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,27 @@
+package com.miniats.exception;
+
+/**
+ * Data store failure that may succeed if retried later
+ * (timeouts, connection errors, 5xx and 429 responses).
+ */
+public class TransientRepositoryException extends RepositoryException {
+
+    private final long retryAfterSeconds;
+
+    public TransientRepositoryException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public TransientRepositoryException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Suggested client back-off in seconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
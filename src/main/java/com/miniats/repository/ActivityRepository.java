@@ -1,7 +1,10 @@
 package com.miniats.repository;
 
 import com.miniats.domain.model.Activity;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -14,6 +17,11 @@ public interface ActivityRepository {
      */
     Activity create(Activity activity);
 
+    /**
+     * Create many activities in a single bulk insert
+     */
+    List<Activity> createAll(List<Activity> activities);
+
     /**
      * Find all activities for a candidate
      */
@@ -28,4 +36,77 @@ public interface ActivityRepository {
      * Find recent activities for a candidate (limit to latest N)
      */
     List<Activity> findRecentByCandidateId(UUID candidateId, int limit);
-}
\ No newline at end of file
+
+    /**
+     * Find the timeline of a single application, oldest first
+     */
+    List<Activity> findByApplicationId(UUID applicationId);
+
+    /**
+     * Find all activities of one type in an organization, oldest first
+     */
+    List<Activity> findByOrganizationIdAndType(UUID organizationId, String activityType);
+
+    /**
+     * Find the oldest activities of an organization created before a cutoff, oldest first
+     */
+    List<Activity> findOlderThan(UUID organizationId, Instant cutoff, int limit);
+
+    /**
+     * Count activities of an organization created at or after a point in time
+     */
+    long countByOrganizationIdSince(UUID organizationId, Instant since);
+
+    /**
+     * Delete many activities with filtered DELETEs
+     */
+    void deleteByIds(List<UUID> ids);
+
+    /**
+     * Find one page of an organization's feed, newest first, with all filters applied in Supabase
+     */
+    List<Activity> findFeed(FeedQuery query);
+
+    /**
+     * Feed filters. Null fields are not filtered on; the cursor (beforeCreatedAt,
+     * beforeId) selects activities strictly after it in newest-first order.
+     */
+    record FeedQuery(
+            UUID organizationId,
+            Instant from,
+            Instant to,
+            Set<String> types,
+            UUID candidateId,
+            Instant beforeCreatedAt,
+            UUID beforeId,
+            int limit
+    ) {
+        /**
+         * Newest-first feed order, ties broken by descending ID
+         */
+        public static final Comparator<Activity> NEWEST_FIRST = Comparator
+                .comparing(Activity::getCreatedAt, Comparator.reverseOrder())
+                .thenComparing(Activity::getId, (a, b) -> compareIds(b, a));
+
+        /**
+         * Postgres orders UUIDs as unsigned bytes; UUID.compareTo compares signed longs
+         */
+        public static int compareIds(UUID a, UUID b) {
+            int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+            return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+        }
+
+        /**
+         * Whether an activity passes every filter, cursor included
+         */
+        public boolean matches(Activity activity) {
+            Instant createdAt = activity.getCreatedAt();
+            return (from == null || !createdAt.isBefore(from))
+                    && (to == null || createdAt.isBefore(to))
+                    && (types == null || types.contains(activity.getActivityType()))
+                    && (candidateId == null || candidateId.equals(activity.getCandidateId()))
+                    && (beforeCreatedAt == null || createdAt.isBefore(beforeCreatedAt)
+                        || (createdAt.equals(beforeCreatedAt) && compareIds(activity.getId(), beforeId) < 0));
+        }
+    }
+}
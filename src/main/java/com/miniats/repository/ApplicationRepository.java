@@ -4,6 +4,7 @@ import com.miniats.domain.enums.ApplicationStatus;
 import com.miniats.domain.model.Application;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,6 +19,11 @@ public interface ApplicationRepository {
      */
     Optional<Application> findById(UUID id);
 
+    /**
+     * Find applications by IDs (missing IDs are simply absent from the result)
+     */
+    List<Application> findByIds(List<UUID> ids);
+
     /**
      * Find application by job and candidate (unique combination)
      */
@@ -28,6 +34,11 @@ public interface ApplicationRepository {
      */
     List<Application> findByJobId(UUID jobId);
 
+    /**
+     * Find all applications for a job, fetching only the selected fields
+     */
+    List<Application> findByJobId(UUID jobId, FieldSelection fields);
+
     /**
      * Find applications by job and status (for Kanban columns)
      */
@@ -62,6 +73,13 @@ public interface ApplicationRepository {
             String candidateNameKeyword
     );
 
+    /**
+     * Keyset page of applications in an organization, ordered by ID, with job
+     * title and candidate name/email embedded in the same query (no N+1 lookups).
+     * Pass null as afterId for the first page.
+     */
+    List<EnrichedApplication> findEnrichedPageByOrganizationId(UUID organizationId, UUID afterId, int limit);
+
     /**
      * Get all applications (admin only)
      */
@@ -77,11 +95,23 @@ public interface ApplicationRepository {
      */
     Application update(Application application);
 
+    /**
+     * Set status (and notes, if not null) on many applications with one filtered PATCH.
+     * Only rows currently in one of {@code fromStatuses} are changed; returns the changed rows.
+     */
+    List<Application> updateStatusByIds(List<UUID> ids, Set<ApplicationStatus> fromStatuses,
+                                        ApplicationStatus status, String notes);
+
     /**
      * Delete application by ID
      */
     void deleteById(UUID id);
 
+    /**
+     * Delete many applications with one filtered DELETE
+     */
+    void deleteByIds(List<UUID> ids);
+
     /**
      * Check if application exists
      */
@@ -106,4 +136,19 @@ public interface ApplicationRepository {
      * Count applications by organization
      */
     long countByOrganizationId(UUID organizationId);
+
+    /**
+     * Count applications by organization and status
+     */
+    long countByOrganizationIdAndStatus(UUID organizationId, ApplicationStatus status);
+
+    /**
+     * Application row with the job and candidate columns needed for listings and exports
+     */
+    record EnrichedApplication(
+            Application application,
+            String jobTitle,
+            String candidateName,
+            String candidateEmail
+    ) {}
 }
\ No newline at end of file
@@ -21,6 +21,17 @@ public interface CandidateRepository {
      */
     List<Candidate> findByOrganizationId(UUID organizationId);
 
+    /**
+     * Find all candidates in an organization, fetching only the selected fields
+     */
+    List<Candidate> findByOrganizationId(UUID organizationId, FieldSelection fields);
+
+    /**
+     * Find candidates by IDs, fetching only the selected fields
+     * (missing IDs are simply absent from the result)
+     */
+    List<Candidate> findByIds(List<UUID> ids, FieldSelection fields);
+
     /**
      * Find candidates by name (search within organization)
      */
@@ -36,6 +47,12 @@ public interface CandidateRepository {
      */
     List<Candidate> findByOrganizationIdAndLinkedinUrlContaining(UUID organizationId, String linkedinKeyword);
 
+    /**
+     * Keyset page of candidates in an organization, ordered by ID.
+     * Pass null as afterId for the first page.
+     */
+    List<Candidate> findPageByOrganizationId(UUID organizationId, UUID afterId, int limit);
+
     /**
      * Get all candidates (admin only)
      */
@@ -46,6 +63,16 @@ public interface CandidateRepository {
      */
     Candidate save(Candidate candidate);
 
+    /**
+     * Create many candidates in a single bulk insert
+     */
+    List<Candidate> saveAll(List<Candidate> candidates);
+
+    /**
+     * Get all (non-null) candidate emails in an organization
+     */
+    List<String> findEmailsByOrganizationId(UUID organizationId);
+
     /**
      * Update existing candidate
      */
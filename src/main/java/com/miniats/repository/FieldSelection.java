@@ -0,0 +1,215 @@
+package com.miniats.repository;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset for a record DTO, parsed from a {@code fields=} parameter such as
+ * {@code id,status,candidate.fullName,job.title}.
+ * Repositories turn it into a PostgREST {@code select=} so unselected columns are not
+ * fetched; {@link #project} nulls unselected components so they are not serialized
+ * (DTOs omit nulls). {@code id} is always kept; a nested field without sub-fields
+ * selects the whole nested object.
+ */
+public final class FieldSelection {
+
+    private static final String ID = "id";
+
+    private static final ClassValue<Shape> SHAPES = new ClassValue<>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            return new Shape(type);
+        }
+    };
+
+    private final Class<?> type;
+    // null = every field
+    private final Map<String, FieldSelection> fields;
+
+    private FieldSelection(Class<?> type, Map<String, FieldSelection> fields) {
+        this.type = type;
+        this.fields = fields;
+    }
+
+    /**
+     * Selection of every field of a record type
+     */
+    public static FieldSelection all(Class<? extends Record> type) {
+        return new FieldSelection(type, null);
+    }
+
+    /**
+     * Parse a comma-separated field list (null or blank selects everything).
+     * Throws IllegalArgumentException for fields the record does not have.
+     */
+    public static FieldSelection parse(String fields, Class<? extends Record> type) {
+        if (fields == null || fields.isBlank()) {
+            return all(type);
+        }
+        FieldSelection selection = new FieldSelection(type, new TreeMap<>());
+        for (String path : fields.split(",")) {
+            if (!path.isBlank()) {
+                selection.add(path.trim().split("\\."), 0);
+            }
+        }
+        return selection;
+    }
+
+    private void add(String[] path, int depth) {
+        String name = path[depth];
+        RecordComponent component = SHAPES.get(type).component(name);
+        if (component == null) {
+            throw new IllegalArgumentException("Unknown field '" + String.join(".", path) + "' for " + type.getSimpleName());
+        }
+        boolean last = depth == path.length - 1;
+        if (!last && !component.getType().isRecord()) {
+            throw new IllegalArgumentException("Field '" + name + "' has no sub-fields");
+        }
+        FieldSelection child = fields.get(name);
+        if (last) {
+            // "candidate" selects the whole object, even alongside "candidate.fullName"
+            fields.put(name, component.getType().isRecord() ? new FieldSelection(component.getType(), null) : null);
+        } else if (!fields.containsKey(name) || child != null && !child.isAll()) {
+            if (child == null) {
+                child = new FieldSelection(component.getType(), new TreeMap<>());
+                fields.put(name, child);
+            }
+            child.add(path, depth + 1);
+        }
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /**
+     * Whether a top-level field is selected
+     */
+    public boolean includes(String field) {
+        return fields == null || ID.equals(field) || fields.containsKey(field);
+    }
+
+    /**
+     * Selection for a nested record field (everything if the field was named without sub-fields)
+     */
+    public FieldSelection nested(String field) {
+        if (fields == null || fields.get(field) == null) {
+            return new FieldSelection(SHAPES.get(type).component(field).getType(), null);
+        }
+        return fields.get(field);
+    }
+
+    /**
+     * Same selection with extra top-level fields (e.g. keys needed to join nested data)
+     */
+    public FieldSelection with(String... extra) {
+        if (fields == null) {
+            return this;
+        }
+        FieldSelection copy = new FieldSelection(type, new TreeMap<>(fields));
+        for (String field : extra) {
+            if (!copy.fields.containsKey(field)) {
+                copy.add(new String[]{field}, 0);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Database columns (snake_case) of the selected non-nested fields, always including id
+     */
+    public Set<String> columns() {
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add(ID);
+        Shape shape = SHAPES.get(type);
+        for (RecordComponent component : shape.components) {
+            if (!component.getType().isRecord() && includes(component.getName())) {
+                columns.add(toSnakeCase(component.getName()));
+            }
+        }
+        return Collections.unmodifiableSet(columns);
+    }
+
+    /**
+     * Copy of a record with unselected components set to null (primitives are kept)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> T project(T value) {
+        if (fields == null || value == null) {
+            return value;
+        }
+        Shape shape = SHAPES.get(value.getClass());
+        Object[] args = new Object[shape.components.length];
+        try {
+            for (int i = 0; i < args.length; i++) {
+                RecordComponent component = shape.components[i];
+                String name = component.getName();
+                if (!includes(name) && !component.getType().isPrimitive()) {
+                    continue;
+                }
+                Object componentValue = component.getAccessor().invoke(value);
+                FieldSelection child = fields.get(name);
+                if (componentValue instanceof Record nested && child != null) {
+                    componentValue = child.project(nested);
+                }
+                args[i] = componentValue;
+            }
+            return (T) shape.constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot project " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Stable text form, usable as a cache or ETag key
+     */
+    @Override
+    public String toString() {
+        if (fields == null) {
+            return "*";
+        }
+        return fields.entrySet().stream()
+                .map(entry -> entry.getValue() == null || entry.getValue().isAll()
+                        ? entry.getKey()
+                        : entry.getKey() + "(" + entry.getValue() + ")")
+                .collect(Collectors.joining(","));
+    }
+
+    private static String toSnakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    private static final class Shape {
+        private final RecordComponent[] components;
+        private final Constructor<?> constructor;
+
+        private Shape(Class<?> type) {
+            this.components = type.getRecordComponents();
+            if (components == null) {
+                throw new IllegalArgumentException(type.getSimpleName() + " is not a record");
+            }
+            try {
+                this.constructor = type.getDeclaredConstructor(
+                        Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("No canonical constructor for " + type.getSimpleName(), e);
+            }
+        }
+
+        private RecordComponent component(String name) {
+            for (RecordComponent component : components) {
+                if (component.getName().equals(name)) {
+                    return component;
+                }
+            }
+            return null;
+        }
+    }
+}
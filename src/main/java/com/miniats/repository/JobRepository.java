@@ -17,11 +17,26 @@ public interface JobRepository {
      */
     Optional<Job> findById(UUID id);
 
+    /**
+     * Find jobs by IDs (missing IDs are simply absent from the result)
+     */
+    List<Job> findByIds(List<UUID> ids);
+
+    /**
+     * Find jobs by IDs, fetching only the selected fields
+     */
+    List<Job> findByIds(List<UUID> ids, FieldSelection fields);
+
     /**
      * Find all jobs in an organization
      */
     List<Job> findByOrganizationId(UUID organizationId);
 
+    /**
+     * Find all jobs in an organization, fetching only the selected fields
+     */
+    List<Job> findByOrganizationId(UUID organizationId, FieldSelection fields);
+
     /**
      * Find jobs by organization and status
      */
@@ -1,6 +1,7 @@
 package com.miniats.repository;
 
 import com.miniats.domain.model.Scorecard;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +25,12 @@ public interface ScorecardRepository {
      */
     Optional<Scorecard> findByCandidateId(UUID candidateId);
 
+    /**
+     * Find every application in a job's pipeline with its candidate and scorecard
+     * (if any) in a single query
+     */
+    List<PipelineScorecard> findPipelineScorecardsByJobId(UUID jobId);
+
     /**
      * Delete scorecard by candidate ID
      */
@@ -33,4 +40,15 @@ public interface ScorecardRepository {
      * Check if scorecard exists for candidate
      */
     boolean existsByCandidateId(UUID candidateId);
-}
\ No newline at end of file
+
+    /**
+     * Application in a job pipeline with its candidate's scorecard (null if not scored)
+     */
+    record PipelineScorecard(
+            UUID applicationId,
+            UUID candidateId,
+            String candidateName,
+            String status,
+            Scorecard scorecard
+    ) {}
+}
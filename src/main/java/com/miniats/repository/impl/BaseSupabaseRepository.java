@@ -3,13 +3,27 @@ package com.miniats.repository.impl;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniats.config.SupabaseConfig;
+import com.miniats.exception.PermanentRepositoryException;
+import com.miniats.exception.RepositoryException;
+import com.miniats.exception.ResourceNotFoundException;
+import com.miniats.exception.TransientRepositoryException;
+import com.miniats.repository.FieldSelection;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Base class for Supabase repository implementations.
@@ -17,18 +31,28 @@ import java.util.Map;
  */
 public abstract class BaseSupabaseRepository {
 
+    /**
+     * Max IDs per IN filter; ~36 chars per UUID keeps URLs under common 8 KB limits
+     */
+    protected static final int IN_FILTER_CHUNK_SIZE = 150;
+
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 2;
+
     protected final RestTemplate restTemplate;
     protected final SupabaseConfig supabaseConfig;
     protected final ObjectMapper objectMapper;
+    protected final SupabaseResilience resilience;
 
     protected BaseSupabaseRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
         this.restTemplate = restTemplate;
         this.supabaseConfig = supabaseConfig;
         this.objectMapper = objectMapper;
+        this.resilience = resilience;
     }
 
     /**
@@ -56,12 +80,7 @@ public abstract class BaseSupabaseRepository {
     protected <T> List<T> executeGet(String url, TypeReference<List<T>> typeRef) {
         try {
             HttpEntity<Void> entity = new HttpEntity<>(supabaseConfig.getServiceRoleHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = exchange(url, HttpMethod.GET, entity);
 
             if (response.getBody() == null || response.getBody().isEmpty()) {
                 return List.of();
@@ -69,7 +88,36 @@ public abstract class BaseSupabaseRepository {
 
             return objectMapper.readValue(response.getBody(), typeRef);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to execute GET request: " + e.getMessage(), e);
+            throw translate("GET", e);
+        }
+    }
+
+    /**
+     * Count matching rows without downloading them: a HEAD with Prefer: count=exact,
+     * answered with the total in the Content-Range header
+     */
+    protected long executeCount(String filters) {
+        return executeCount("id", filters);
+    }
+
+    /**
+     * Count matching rows; select may embed an inner-joined table to filter on
+     */
+    protected long executeCount(String select, String filters) {
+        try {
+            HttpHeaders headers = supabaseConfig.getServiceRoleHeaders();
+            headers.set("Prefer", "count=exact");
+            String url = buildTableUrl("select=" + select + (filters.isEmpty() ? "" : "&" + filters));
+            ResponseEntity<String> response = exchange(url, HttpMethod.HEAD, new HttpEntity<>(headers));
+
+            String range = response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE);
+            int slash = range != null ? range.lastIndexOf('/') : -1;
+            if (slash < 0 || range.endsWith("*")) {
+                throw new IllegalStateException("No row count in response (Content-Range: " + range + ")");
+            }
+            return Long.parseLong(range.substring(slash + 1));
+        } catch (Exception e) {
+            throw translate("count", e);
         }
     }
 
@@ -79,12 +127,7 @@ public abstract class BaseSupabaseRepository {
     protected <T> T executePost(String url, Object body, Class<T> responseType) {
         try {
             HttpEntity<Object> entity = new HttpEntity<>(body, supabaseConfig.getServiceRoleHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = exchange(url, HttpMethod.POST, entity);
 
             if (response.getBody() == null || response.getBody().isEmpty()) {
                 throw new RuntimeException("Empty response from POST request");
@@ -102,7 +145,32 @@ public abstract class BaseSupabaseRepository {
 
             return results.get(0);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to execute POST request: " + e.getMessage(), e);
+            throw translate("POST", e);
+        }
+    }
+
+    /**
+     * Execute POST request with a JSON array body (bulk insert in one round trip).
+     * PostgREST requires every row to carry the same keys.
+     */
+    protected <T> List<T> executePostBatch(String url, List<?> rows, Class<T> responseType) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        try {
+            HttpEntity<Object> entity = new HttpEntity<>(rows, supabaseConfig.getServiceRoleHeaders());
+            ResponseEntity<String> response = exchange(url, HttpMethod.POST, entity);
+
+            if (response.getBody() == null || response.getBody().isEmpty()) {
+                throw new RuntimeException("Empty response from batch POST request");
+            }
+
+            return objectMapper.readValue(
+                    response.getBody(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, responseType)
+            );
+        } catch (Exception e) {
+            throw translate("batch POST", e);
         }
     }
 
@@ -112,12 +180,7 @@ public abstract class BaseSupabaseRepository {
     protected <T> T executePatch(String url, Object body, Class<T> responseType) {
         try {
             HttpEntity<Object> entity = new HttpEntity<>(body, supabaseConfig.getServiceRoleHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.PATCH,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = exchange(url, HttpMethod.PATCH, entity);
 
             if (response.getBody() == null || response.getBody().isEmpty()) {
                 throw new RuntimeException("Empty response from PATCH request");
@@ -130,12 +193,33 @@ public abstract class BaseSupabaseRepository {
             );
 
             if (results.isEmpty()) {
-                throw new RuntimeException("No data returned from PATCH request");
+                throw new ResourceNotFoundException("No " + getTableName() + " row matched PATCH request");
             }
 
             return results.get(0);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to execute PATCH request: " + e.getMessage(), e);
+            throw translate("PATCH", e);
+        }
+    }
+
+    /**
+     * Execute PATCH request against a filter that may match many rows
+     */
+    protected <T> List<T> executePatchAll(String url, Object body, Class<T> responseType) {
+        try {
+            HttpEntity<Object> entity = new HttpEntity<>(body, supabaseConfig.getServiceRoleHeaders());
+            ResponseEntity<String> response = exchange(url, HttpMethod.PATCH, entity);
+
+            if (response.getBody() == null || response.getBody().isEmpty()) {
+                return List.of();
+            }
+
+            return objectMapper.readValue(
+                    response.getBody(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, responseType)
+            );
+        } catch (Exception e) {
+            throw translate("PATCH", e);
         }
     }
 
@@ -145,15 +229,64 @@ public abstract class BaseSupabaseRepository {
     protected void executeDelete(String url) {
         try {
             HttpEntity<Void> entity = new HttpEntity<>(supabaseConfig.getServiceRoleHeaders());
-            restTemplate.exchange(
-                    url,
-                    HttpMethod.DELETE,
-                    entity,
-                    String.class
-            );
+            exchange(url, HttpMethod.DELETE, entity);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to execute DELETE request: " + e.getMessage(), e);
+            throw translate("DELETE", e);
+        }
+    }
+
+    /**
+     * Send a request through this table's circuit breaker and bulkhead (reads are retried)
+     */
+    private ResponseEntity<String> exchange(String url, HttpMethod method, HttpEntity<?> entity) {
+        return resilience.execute(getTableName(), method == HttpMethod.GET || method == HttpMethod.HEAD,
+                () -> restTemplate.exchange(url, method, entity, String.class));
+    }
+
+    /**
+     * Classify a failed request: transient failures (timeouts, 5xx, 429) may be
+     * retried by the client, anything else is permanent
+     */
+    protected RuntimeException translate(String operation, Exception e) {
+        if (e instanceof RepositoryException || e instanceof ResourceNotFoundException) {
+            return (RuntimeException) e;
+        }
+        String message = "Supabase " + operation + " on " + getTableName() + " failed: " + e.getMessage();
+        if (SupabaseResilience.isTransient(e)) {
+            return new TransientRepositoryException(message, retryAfterSeconds(e), e);
+        }
+        int status = e instanceof HttpStatusCodeException http ? http.getStatusCode().value() : 0;
+        return new PermanentRepositoryException(message, status, e);
+    }
+
+    private static long retryAfterSeconds(Exception e) {
+        if (e instanceof HttpStatusCodeException http && http.getResponseHeaders() != null) {
+            String retryAfter = http.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null && retryAfter.matches("\\d{1,4}")) {
+                return Long.parseLong(retryAfter);
+            }
         }
+        return DEFAULT_RETRY_AFTER_SECONDS;
+    }
+
+    /**
+     * Build select parameter for a sparse fieldset, plus columns the caller needs
+     * regardless (e.g. join keys); select=* when everything is selected
+     */
+    protected String select(FieldSelection selection, String... requiredColumns) {
+        if (selection.isAll()) {
+            return "select=*";
+        }
+        Set<String> columns = new LinkedHashSet<>(selection.columns());
+        columns.addAll(List.of(requiredColumns));
+        return "select=" + String.join(",", columns);
+    }
+
+    /**
+     * Parse a UUID column that may be absent from a sparse select
+     */
+    protected static UUID parseUuid(Object value) {
+        return value == null ? null : UUID.fromString((String) value);
     }
 
     /**
@@ -170,6 +303,26 @@ public abstract class BaseSupabaseRepository {
         return buildFilter(column, "eq", value);
     }
 
+    /**
+     * Build IN filter, e.g. id=in.(a,b,c)
+     */
+    protected String in(String column, Collection<?> values) {
+        return buildFilter(column, "in", values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "(", ")")));
+    }
+
+    /**
+     * Split values into chunks that keep IN filters within URL length limits
+     */
+    protected static <T> List<List<T>> chunked(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            chunks.add(values.subList(i, Math.min(i + size, values.size())));
+        }
+        return chunks;
+    }
+
     /**
      * Build LIKE filter (case-insensitive search)
      */
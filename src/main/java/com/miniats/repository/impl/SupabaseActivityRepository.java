@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.model.Activity;
 import com.miniats.repository.ActivityRepository;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -20,9 +21,10 @@ public class SupabaseActivityRepository extends BaseSupabaseRepository implement
     public SupabaseActivityRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -48,43 +50,112 @@ public class SupabaseActivityRepository extends BaseSupabaseRepository implement
         return mapToEntity(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Activity> createAll(List<Activity> activities) {
+        // Bulk insert needs identical keys on every row, so nulls are sent explicitly
+        List<Map<String, Object>> rows = activities.stream().map(activity -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("organization_id", activity.getOrganizationId().toString());
+            data.put("candidate_id", activity.getCandidateId() != null ? activity.getCandidateId().toString() : null);
+            data.put("application_id", activity.getApplicationId() != null ? activity.getApplicationId().toString() : null);
+            data.put("activity_type", activity.getActivityType());
+            data.put("description", activity.getDescription());
+            data.put("metadata", activity.getMetadata());
+            data.put("created_by", activity.getCreatedBy() != null ? activity.getCreatedBy().toString() : null);
+            return data;
+        }).toList();
+
+        List<Map> results = executePostBatch(buildTableUrl(), rows, Map.class);
+        return results.stream().map(row -> mapToEntity((Map<String, Object>) row)).toList();
+    }
+
     @Override
     public List<Activity> findByCandidateId(UUID candidateId) {
-        try {
-            String url = buildTableUrl(eq("candidate_id", candidateId) + "&order=created_at.desc");
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(eq("candidate_id", candidateId) + "&order=created_at.desc");
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Activity> findByOrganizationId(UUID organizationId) {
-        try {
-            String url = buildTableUrl(eq("organization_id", organizationId) + "&order=created_at.desc");
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(eq("organization_id", organizationId) + "&order=created_at.desc");
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Activity> findRecentByCandidateId(UUID candidateId, int limit) {
-        try {
-            String url = buildTableUrl(
-                    eq("candidate_id", candidateId) +
-                            "&order=created_at.desc" +
-                            "&limit=" + limit
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
+        String url = buildTableUrl(
+                eq("candidate_id", candidateId) +
+                        "&order=created_at.desc" +
+                        "&limit=" + limit
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Activity> findByApplicationId(UUID applicationId) {
+        String url = buildTableUrl(eq("application_id", applicationId) + "&order=created_at.asc");
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Activity> findByOrganizationIdAndType(UUID organizationId, String activityType) {
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) +
+                        "&" + eq("activity_type", activityType) +
+                        "&order=created_at.asc"
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Activity> findOlderThan(UUID organizationId, Instant cutoff, int limit) {
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) +
+                        "&" + buildFilter("created_at", "lt", cutoff) +
+                        "&order=created_at.asc,id.asc" +
+                        "&limit=" + limit
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public long countByOrganizationIdSince(UUID organizationId, Instant since) {
+        return executeCount(eq("organization_id", organizationId) + "&" + buildFilter("created_at", "gte", since));
+    }
+
+    @Override
+    public void deleteByIds(List<UUID> ids) {
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            executeDelete(buildTableUrl(in("id", chunk)));
         }
     }
 
+    @Override
+    public List<Activity> findFeed(FeedQuery query) {
+        StringBuilder params = new StringBuilder(eq("organization_id", query.organizationId()));
+        if (query.from() != null) params.append("&").append(buildFilter("created_at", "gte", query.from()));
+        if (query.to() != null) params.append("&").append(buildFilter("created_at", "lt", query.to()));
+        if (query.types() != null) params.append("&").append(in("activity_type", query.types()));
+        if (query.candidateId() != null) params.append("&").append(eq("candidate_id", query.candidateId()));
+        if (query.beforeCreatedAt() != null) {
+            // Keyset cursor on (created_at, id), matching the sort order below
+            params.append("&or=(created_at.lt.").append(query.beforeCreatedAt())
+                    .append(",and(created_at.eq.").append(query.beforeCreatedAt())
+                    .append(",id.lt.").append(query.beforeId()).append("))");
+        }
+        params.append("&order=created_at.desc,id.desc&limit=").append(query.limit());
+
+        List<Map<String, Object>> results = executeGet(buildTableUrl(params.toString()), new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
     @SuppressWarnings("unchecked")
     private Activity mapToEntity(Map<String, Object> row) {
         return Activity.builder()
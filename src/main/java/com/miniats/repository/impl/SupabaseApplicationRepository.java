@@ -6,6 +6,8 @@ import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.enums.ApplicationStatus;
 import com.miniats.domain.model.Application;
 import com.miniats.repository.ApplicationRepository;
+import com.miniats.repository.FieldSelection;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -20,12 +22,19 @@ import java.util.*;
 public class SupabaseApplicationRepository extends BaseSupabaseRepository
         implements ApplicationRepository {
 
+    // Always fetched so sparse rows still satisfy the entity builder's invariants
+    private static final String[] REQUIRED_COLUMNS = {"job_id", "candidate_id"};
+
+    // Applications have no organization_id; filter through the job instead
+    private static final String ORGANIZATION_JOIN = "id,jobs!inner(organization_id)";
+
     public SupabaseApplicationRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -35,93 +44,83 @@ public class SupabaseApplicationRepository extends BaseSupabaseRepository
 
     @Override
     public Optional<Application> findById(UUID id) {
-        try {
-            String url = buildTableUrl(eq("id", id));
+        String url = buildTableUrl(eq("id", id));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
+    }
+
+    @Override
+    public List<Application> findByIds(List<UUID> ids) {
+        List<Application> applications = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            String url = buildTableUrl(in("id", chunk));
             List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
+            results.stream().map(this::mapToEntity).forEach(applications::add);
         }
+        return applications;
     }
 
     @Override
     public Optional<Application> findByJobIdAndCandidateId(UUID jobId, UUID candidateId) {
-        try {
-            String url = buildTableUrl(
-                    eq("job_id", jobId) + "&" + eq("candidate_id", candidateId)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String url = buildTableUrl(
+                eq("job_id", jobId) + "&" + eq("candidate_id", candidateId)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
     public List<Application> findByJobId(UUID jobId) {
-        try {
-            String url = buildTableUrl(eq("job_id", jobId));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(eq("job_id", jobId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Application> findByJobId(UUID jobId, FieldSelection fields) {
+        String url = buildTableUrl(select(fields, REQUIRED_COLUMNS) + "&" + eq("job_id", jobId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Application> findByJobIdAndStatus(UUID jobId, ApplicationStatus status) {
-        try {
-            String url = buildTableUrl(
-                    eq("job_id", jobId) + "&" + eq("status", status.name())
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("job_id", jobId) + "&" + eq("status", status.name())
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Application> findByCandidateId(UUID candidateId) {
-        try {
-            String url = buildTableUrl(eq("candidate_id", candidateId));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(eq("candidate_id", candidateId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Application> findByOrganizationId(UUID organizationId) {
         // This requires a JOIN with jobs table to filter by organization_id
         // Using Supabase's resource embedding syntax
-        try {
-            String url = supabaseConfig.getRestApiUrl() + "/applications?" +
-                    "select=*,jobs!inner(organization_id)&" +
-                    "jobs.organization_id=eq." + organizationId;
+        String url = supabaseConfig.getRestApiUrl() + "/applications?" +
+                "select=*,jobs!inner(organization_id)&" +
+                "jobs.organization_id=eq." + organizationId;
 
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Application> findByOrganizationIdAndJobId(UUID organizationId, UUID jobId) {
         // Verify job belongs to organization, then get applications
-        try {
-            String url = supabaseConfig.getRestApiUrl() + "/applications?" +
-                    "select=*,jobs!inner(organization_id)&" +
-                    "job_id=eq." + jobId + "&" +
-                    "jobs.organization_id=eq." + organizationId;
+        String url = supabaseConfig.getRestApiUrl() + "/applications?" +
+                "select=*,jobs!inner(organization_id)&" +
+                "job_id=eq." + jobId + "&" +
+                "jobs.organization_id=eq." + organizationId;
 
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -129,17 +128,13 @@ public class SupabaseApplicationRepository extends BaseSupabaseRepository
             UUID organizationId,
             ApplicationStatus status
     ) {
-        try {
-            String url = supabaseConfig.getRestApiUrl() + "/applications?" +
-                    "select=*,jobs!inner(organization_id)&" +
-                    "status=eq." + status.name() + "&" +
-                    "jobs.organization_id=eq." + organizationId;
+        String url = supabaseConfig.getRestApiUrl() + "/applications?" +
+                "select=*,jobs!inner(organization_id)&" +
+                "status=eq." + status.name() + "&" +
+                "jobs.organization_id=eq." + organizationId;
 
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -148,28 +143,47 @@ public class SupabaseApplicationRepository extends BaseSupabaseRepository
             String candidateNameKeyword
     ) {
         // This requires JOIN with both jobs and candidates tables
-        try {
-            String url = supabaseConfig.getRestApiUrl() + "/applications?" +
-                    "select=*,jobs!inner(organization_id),candidates!inner(full_name)&" +
-                    "jobs.organization_id=eq." + organizationId + "&" +
-                    "candidates.full_name=ilike.*" + candidateNameKeyword + "*";
+        String url = supabaseConfig.getRestApiUrl() + "/applications?" +
+                "select=*,jobs!inner(organization_id),candidates!inner(full_name)&" +
+                "jobs.organization_id=eq." + organizationId + "&" +
+                "candidates.full_name=ilike.*" + candidateNameKeyword + "*";
 
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EnrichedApplication> findEnrichedPageByOrganizationId(
+            UUID organizationId,
+            UUID afterId,
+            int limit
+    ) {
+        String url = supabaseConfig.getRestApiUrl() + "/applications?" +
+                "select=*,jobs!inner(organization_id,title),candidates(full_name,email)&" +
+                "jobs.organization_id=eq." + organizationId +
+                (afterId != null ? "&id=gt." + afterId : "") +
+                "&order=id.asc" +
+                "&limit=" + limit;
+
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(row -> {
+            Map<String, Object> job = (Map<String, Object>) row.get("jobs");
+            Map<String, Object> candidate = (Map<String, Object>) row.get("candidates");
+            return new EnrichedApplication(
+                    mapToEntity(row),
+                    job != null ? (String) job.get("title") : null,
+                    candidate != null ? (String) candidate.get("full_name") : null,
+                    candidate != null ? (String) candidate.get("email") : null
+            );
+        }).toList();
     }
 
     @Override
     public List<Application> findAll() {
-        try {
-            String url = buildTableUrl();
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl();
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -203,6 +217,33 @@ public class SupabaseApplicationRepository extends BaseSupabaseRepository
         return mapToEntity(result);
     }
 
+    @Override
+    public List<Application> updateStatusByIds(List<UUID> ids, Set<ApplicationStatus> fromStatuses,
+                                               ApplicationStatus status, String notes) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("status", status.name());
+        data.put("stage_order", status.getStageOrder());
+        if (notes != null) {
+            data.put("notes", notes);
+        }
+
+        // Rows moved concurrently to a status outside fromStatuses are left alone (not returned)
+        String statusFilter = in("status", fromStatuses.stream().map(Enum::name).sorted().toList());
+        List<Application> updated = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            List<Map> results = executePatchAll(buildTableUrl(in("id", chunk) + "&" + statusFilter), data, Map.class);
+            results.forEach(row -> updated.add(mapToEntity((Map<String, Object>) row)));
+        }
+        return updated;
+    }
+
+    @Override
+    public void deleteByIds(List<UUID> ids) {
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            executeDelete(buildTableUrl(in("id", chunk)));
+        }
+    }
+
     @Override
     public void deleteById(UUID id) {
         String url = buildTableUrl(eq("id", id));
@@ -221,26 +262,33 @@ public class SupabaseApplicationRepository extends BaseSupabaseRepository
 
     @Override
     public long countByJobId(UUID jobId) {
-        return findByJobId(jobId).size();
+        return executeCount(eq("job_id", jobId));
     }
 
     @Override
     public long countByJobIdAndStatus(UUID jobId, ApplicationStatus status) {
-        return findByJobIdAndStatus(jobId, status).size();
+        return executeCount(eq("job_id", jobId) + "&" + eq("status", status.name()));
     }
 
     @Override
     public long countByOrganizationId(UUID organizationId) {
-        return findByOrganizationId(organizationId).size();
+        return executeCount(ORGANIZATION_JOIN, eq("jobs.organization_id", organizationId));
+    }
+
+    @Override
+    public long countByOrganizationIdAndStatus(UUID organizationId, ApplicationStatus status) {
+        return executeCount(ORGANIZATION_JOIN, eq("jobs.organization_id", organizationId)
+                + "&" + eq("status", status.name()));
     }
 
     private Application mapToEntity(Map<String, Object> row) {
         return Application.builder()
-                .id(UUID.fromString((String) row.get("id")))
-                .jobId(UUID.fromString((String) row.get("job_id")))
-                .candidateId(UUID.fromString((String) row.get("candidate_id")))
+                .id(parseUuid(row.get("id")))
+                .jobId(parseUuid(row.get("job_id")))
+                .candidateId(parseUuid(row.get("candidate_id")))
                 .status(ApplicationStatus.fromString((String) row.get("status")))
-                .stageOrder(((Number) row.get("stage_order")).intValue())
+                // Absent from sparse selects; 0 lets the builder derive it from the status
+                .stageOrder(row.get("stage_order") != null ? ((Number) row.get("stage_order")).intValue() : 0)
                 .appliedAt(parseInstant(row.get("applied_at")))
                 .updatedAt(parseInstant(row.get("updated_at")))
                 .notes((String) row.get("notes"))
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.model.Candidate;
 import com.miniats.repository.CandidateRepository;
+import com.miniats.repository.FieldSelection;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -18,12 +20,16 @@ import java.util.*;
 public class SupabaseCandidateRepository extends BaseSupabaseRepository
         implements CandidateRepository {
 
+    // Always fetched so sparse rows still satisfy the entity builder's invariants
+    private static final String[] REQUIRED_COLUMNS = {"organization_id", "full_name"};
+
     public SupabaseCandidateRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -33,24 +39,34 @@ public class SupabaseCandidateRepository extends BaseSupabaseRepository
 
     @Override
     public Optional<Candidate> findById(UUID id) {
-        try {
-            String url = buildTableUrl(eq("id", id));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String url = buildTableUrl(eq("id", id));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
     public List<Candidate> findByOrganizationId(UUID organizationId) {
-        try {
-            String url = buildTableUrl(eq("organization_id", organizationId));
+        String url = buildTableUrl(eq("organization_id", organizationId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Candidate> findByOrganizationId(UUID organizationId, FieldSelection fields) {
+        String url = buildTableUrl(select(fields, REQUIRED_COLUMNS) + "&" + eq("organization_id", organizationId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Candidate> findByIds(List<UUID> ids, FieldSelection fields) {
+        List<Candidate> candidates = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            String url = buildTableUrl(select(fields, REQUIRED_COLUMNS) + "&" + in("id", chunk));
             List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
+            results.stream().map(this::mapToEntity).forEach(candidates::add);
         }
+        return candidates;
     }
 
     @Override
@@ -58,28 +74,20 @@ public class SupabaseCandidateRepository extends BaseSupabaseRepository
             UUID organizationId,
             String nameKeyword
     ) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + ilike("full_name", nameKeyword)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + ilike("full_name", nameKeyword)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public Optional<Candidate> findByOrganizationIdAndEmail(UUID organizationId, String email) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + eq("email", email)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + eq("email", email)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
@@ -87,26 +95,30 @@ public class SupabaseCandidateRepository extends BaseSupabaseRepository
             UUID organizationId,
             String linkedinKeyword
     ) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + ilike("linkedin_url", linkedinKeyword)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + ilike("linkedin_url", linkedinKeyword)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Candidate> findPageByOrganizationId(UUID organizationId, UUID afterId, int limit) {
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) +
+                        (afterId != null ? "&" + buildFilter("id", "gt", afterId) : "") +
+                        "&order=id.asc" +
+                        "&limit=" + limit
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Candidate> findAll() {
-        try {
-            String url = buildTableUrl();
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl();
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -135,6 +147,41 @@ public class SupabaseCandidateRepository extends BaseSupabaseRepository
         return mapToEntity(result);
     }
 
+    @Override
+    public List<Candidate> saveAll(List<Candidate> candidates) {
+        // Bulk insert needs identical keys on every row, so nulls are sent explicitly
+        List<Map<String, Object>> rows = candidates.stream().map(candidate -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("organization_id", candidate.getOrganizationId().toString());
+            data.put("full_name", candidate.getFullName());
+            data.put("email", candidate.getEmail());
+            data.put("phone", candidate.getPhone());
+            data.put("linkedin_url", candidate.getLinkedinUrl());
+            data.put("resume_url", candidate.getResumeUrl());
+            data.put("notes", candidate.getNotes());
+            data.put("city", candidate.getCity());
+            data.put("availability", candidate.getAvailability());
+            data.put("education_level", candidate.getEducationLevel());
+            data.put("is_experienced", candidate.getIsExperienced());
+            data.put("skills", candidate.getSkills());
+            data.put("avatar_url", candidate.getAvatarUrl());
+            data.put("summary", candidate.getSummary());
+            return data;
+        }).toList();
+
+        List<Map> results = executePostBatch(buildTableUrl(), rows, Map.class);
+        return results.stream().map(row -> mapToEntity((Map<String, Object>) row)).toList();
+    }
+
+    @Override
+    public List<String> findEmailsByOrganizationId(UUID organizationId) {
+        String url = buildTableUrl(
+                "select=email&" + eq("organization_id", organizationId) + "&email=not.is.null"
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(row -> (String) row.get("email")).toList();
+    }
+
     @Override
     public Candidate update(Candidate candidate) {
         Map<String, Object> data = new HashMap<>();
@@ -174,15 +221,11 @@ public class SupabaseCandidateRepository extends BaseSupabaseRepository
 
     @Override
     public boolean existsByIdAndOrganizationId(UUID id, UUID organizationId) {
-        try {
-            String url = buildTableUrl(
-                    eq("id", id) + "&" + eq("organization_id", organizationId)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return !results.isEmpty();
-        } catch (Exception e) {
-            return false;
-        }
+        String url = buildTableUrl(
+                eq("id", id) + "&" + eq("organization_id", organizationId)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return !results.isEmpty();
     }
 
     @Override
@@ -192,13 +235,13 @@ public class SupabaseCandidateRepository extends BaseSupabaseRepository
 
     @Override
     public long countByOrganizationId(UUID organizationId) {
-        return findByOrganizationId(organizationId).size();
+        return executeCount(eq("organization_id", organizationId));
     }
 
     private Candidate mapToEntity(Map<String, Object> row) {
         return Candidate.builder()
-                .id(UUID.fromString((String) row.get("id")))
-                .organizationId(UUID.fromString((String) row.get("organization_id")))
+                .id(parseUuid(row.get("id")))
+                .organizationId(parseUuid(row.get("organization_id")))
                 .fullName((String) row.get("full_name"))
                 .email((String) row.get("email"))
                 .phone((String) row.get("phone"))
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.enums.JobStatus;
 import com.miniats.domain.model.Job;
+import com.miniats.repository.FieldSelection;
 import com.miniats.repository.JobRepository;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -19,12 +21,16 @@ import java.util.*;
 public class SupabaseJobRepository extends BaseSupabaseRepository
         implements JobRepository {
 
+    // Always fetched so sparse rows still satisfy the entity builder's invariants
+    private static final String[] REQUIRED_COLUMNS = {"organization_id", "title"};
+
     public SupabaseJobRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -34,37 +40,54 @@ public class SupabaseJobRepository extends BaseSupabaseRepository
 
     @Override
     public Optional<Job> findById(UUID id) {
-        try {
-            String url = buildTableUrl(eq("id", id));
+        String url = buildTableUrl(eq("id", id));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
+    }
+
+    @Override
+    public List<Job> findByIds(List<UUID> ids) {
+        List<Job> jobs = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            String url = buildTableUrl(in("id", chunk));
             List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
+            results.stream().map(this::mapToEntity).forEach(jobs::add);
         }
+        return jobs;
     }
 
     @Override
-    public List<Job> findByOrganizationId(UUID organizationId) {
-        try {
-            String url = buildTableUrl(eq("organization_id", organizationId));
+    public List<Job> findByIds(List<UUID> ids, FieldSelection fields) {
+        List<Job> jobs = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : chunked(ids, IN_FILTER_CHUNK_SIZE)) {
+            String url = buildTableUrl(select(fields, REQUIRED_COLUMNS) + "&" + in("id", chunk));
             List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
+            results.stream().map(this::mapToEntity).forEach(jobs::add);
         }
+        return jobs;
+    }
+
+    @Override
+    public List<Job> findByOrganizationId(UUID organizationId) {
+        String url = buildTableUrl(eq("organization_id", organizationId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
+    }
+
+    @Override
+    public List<Job> findByOrganizationId(UUID organizationId, FieldSelection fields) {
+        String url = buildTableUrl(select(fields, REQUIRED_COLUMNS) + "&" + eq("organization_id", organizationId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Job> findByOrganizationIdAndStatus(UUID organizationId, JobStatus status) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + eq("status", status.name())
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + eq("status", status.name())
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -74,39 +97,27 @@ public class SupabaseJobRepository extends BaseSupabaseRepository
 
     @Override
     public List<Job> findByOrganizationIdAndTitleContaining(UUID organizationId, String titleKeyword) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + ilike("title", titleKeyword)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + ilike("title", titleKeyword)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Job> findByOrganizationIdAndDepartment(UUID organizationId, String department) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + eq("department", department)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + eq("department", department)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<Job> findAll() {
-        try {
-            String url = buildTableUrl();
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl();
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -153,38 +164,33 @@ public class SupabaseJobRepository extends BaseSupabaseRepository
 
     @Override
     public boolean existsByIdAndOrganizationId(UUID id, UUID organizationId) {
-        try {
-            String url = buildTableUrl(
-                    eq("id", id) + "&" + eq("organization_id", organizationId)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return !results.isEmpty();
-        } catch (Exception e) {
-            return false;
-        }
+        String url = buildTableUrl(
+                eq("id", id) + "&" + eq("organization_id", organizationId)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return !results.isEmpty();
     }
 
     @Override
     public long countByOrganizationId(UUID organizationId) {
-        return findByOrganizationId(organizationId).size();
+        return executeCount(eq("organization_id", organizationId));
     }
 
     @Override
     public long countActiveJobsByOrganizationId(UUID organizationId) {
-        return findActiveJobsByOrganizationId(organizationId).size();
+        return executeCount(eq("organization_id", organizationId) + "&" + eq("status", JobStatus.ACTIVE.name()));
     }
 
     private Job mapToEntity(Map<String, Object> row) {
         return Job.builder()
-                .id(UUID.fromString((String) row.get("id")))
-                .organizationId(UUID.fromString((String) row.get("organization_id")))
+                .id(parseUuid(row.get("id")))
+                .organizationId(parseUuid(row.get("organization_id")))
                 .title((String) row.get("title"))
                 .description((String) row.get("description"))
                 .department((String) row.get("department"))
                 .location((String) row.get("location"))
                 .status(JobStatus.fromString((String) row.get("status")))
-                .createdBy(row.get("created_by") != null ?
-                        UUID.fromString((String) row.get("created_by")) : null)
+                .createdBy(parseUuid(row.get("created_by")))
                 .createdAt(parseInstant(row.get("created_at")))
                 .updatedAt(parseInstant(row.get("updated_at")))
                 .build();
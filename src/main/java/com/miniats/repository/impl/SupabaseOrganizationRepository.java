@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.model.Organization;
 import com.miniats.repository.OrganizationRepository;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -22,9 +23,10 @@ public class SupabaseOrganizationRepository extends BaseSupabaseRepository
     public SupabaseOrganizationRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -34,45 +36,33 @@ public class SupabaseOrganizationRepository extends BaseSupabaseRepository
 
     @Override
     public Optional<Organization> findById(UUID id) {
-        try {
-            String url = buildTableUrl(eq("id", id));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-
-            if (results.isEmpty()) {
-                return Optional.empty();
-            }
+        String url = buildTableUrl(eq("id", id));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
 
-            return Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
+        if (results.isEmpty()) {
             return Optional.empty();
         }
+
+        return Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
     public Optional<Organization> findByName(String name) {
-        try {
-            String url = buildTableUrl(eq("name", name));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        String url = buildTableUrl(eq("name", name));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
 
-            if (results.isEmpty()) {
-                return Optional.empty();
-            }
-
-            return Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
+        if (results.isEmpty()) {
             return Optional.empty();
         }
+
+        return Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
     public List<Organization> findAll() {
-        try {
-            String url = buildTableUrl();
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl();
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
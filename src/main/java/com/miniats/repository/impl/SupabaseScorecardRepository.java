@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.model.Scorecard;
 import com.miniats.repository.ScorecardRepository;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -20,9 +21,10 @@ public class SupabaseScorecardRepository extends BaseSupabaseRepository implemen
     public SupabaseScorecardRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -69,13 +71,34 @@ public class SupabaseScorecardRepository extends BaseSupabaseRepository implemen
 
     @Override
     public Optional<Scorecard> findByCandidateId(UUID candidateId) {
-        try {
-            String url = buildTableUrl(eq("candidate_id", candidateId) + "&limit=1");
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String url = buildTableUrl(eq("candidate_id", candidateId) + "&limit=1");
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PipelineScorecard> findPipelineScorecardsByJobId(UUID jobId) {
+        String url = supabaseConfig.getRestApiUrl() + "/applications?" +
+                "select=id,status,candidate_id,candidates(full_name,scorecards(*))&" +
+                "job_id=eq." + jobId;
+
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(row -> {
+            Map<String, Object> candidate = (Map<String, Object>) row.get("candidates");
+            // Embedded as an object for a one-to-one relationship, otherwise as an array
+            Object embedded = candidate != null ? candidate.get("scorecards") : null;
+            Map<String, Object> scorecard = embedded instanceof List<?> list
+                    ? (list.isEmpty() ? null : (Map<String, Object>) list.get(0))
+                    : (Map<String, Object>) embedded;
+            return new PipelineScorecard(
+                    UUID.fromString((String) row.get("id")),
+                    UUID.fromString((String) row.get("candidate_id")),
+                    candidate != null ? (String) candidate.get("full_name") : null,
+                    (String) row.get("status"),
+                    scorecard != null ? mapToEntity(scorecard) : null
+            );
+        }).toList();
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.miniats.config.SupabaseConfig;
 import com.miniats.domain.enums.UserRole;
 import com.miniats.domain.model.User;
 import com.miniats.repository.UserRepository;
+import com.miniats.resilience.SupabaseResilience;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
 
@@ -25,9 +26,10 @@ public class SupabaseUserRepository extends BaseSupabaseRepository
     public SupabaseUserRepository(
             RestTemplate restTemplate,
             SupabaseConfig supabaseConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SupabaseResilience resilience
     ) {
-        super(restTemplate, supabaseConfig, objectMapper);
+        super(restTemplate, supabaseConfig, objectMapper, resilience);
     }
 
     @Override
@@ -37,73 +39,48 @@ public class SupabaseUserRepository extends BaseSupabaseRepository
 
     @Override
     public Optional<User> findById(UUID id) {
-        try {
-            String url = buildTableUrl(eq("id", id));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String url = buildTableUrl(eq("id", id));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        try {
-            String url = buildTableUrl(eq("email", email));
-            logger.debug("Querying users with URL: {}", url);  // ← NY RAD
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            logger.debug("Found {} results for email: {}", results.size(), email);  // ← NY RAD
-            return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
-        } catch (Exception e) {
-            logger.error("Failed to find user by email: {}", email, e);  // ← NY RAD
-            return Optional.empty();
-        }
+        String url = buildTableUrl(eq("email", email));
+        logger.debug("Querying users with URL: {}", url);  // ← NY RAD
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        logger.debug("Found {} results for email: {}", results.size(), email);  // ← NY RAD
+        return results.isEmpty() ? Optional.empty() : Optional.of(mapToEntity(results.get(0)));
     }
 
     @Override
     public List<User> findByOrganizationId(UUID organizationId) {
-        try {
-            String url = buildTableUrl(eq("organization_id", organizationId));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(eq("organization_id", organizationId));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<User> findByRole(UserRole role) {
-        try {
-            String url = buildTableUrl(eq("role", role.name()));
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(eq("role", role.name()));
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<User> findByOrganizationIdAndRole(UUID organizationId, UserRole role) {
-        try {
-            String url = buildTableUrl(
-                    eq("organization_id", organizationId) + "&" + eq("role", role.name())
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl(
+                eq("organization_id", organizationId) + "&" + eq("role", role.name())
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
     public List<User> findAll() {
-        try {
-            String url = buildTableUrl();
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return results.stream().map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            return List.of();
-        }
+        String url = buildTableUrl();
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return results.stream().map(this::mapToEntity).toList();
     }
 
     @Override
@@ -152,15 +129,11 @@ public class SupabaseUserRepository extends BaseSupabaseRepository
 
     @Override
     public boolean existsByEmailAndOrganizationId(String email, UUID organizationId) {
-        try {
-            String url = buildTableUrl(
-                    eq("email", email) + "&" + eq("organization_id", organizationId)
-            );
-            List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
-            return !results.isEmpty();
-        } catch (Exception e) {
-            return false;
-        }
+        String url = buildTableUrl(
+                eq("email", email) + "&" + eq("organization_id", organizationId)
+        );
+        List<Map<String, Object>> results = executeGet(url, new TypeReference<>() {});
+        return !results.isEmpty();
     }
 
     private User mapToEntity(Map<String, Object> row) {
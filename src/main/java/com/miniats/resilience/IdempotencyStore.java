@@ -0,0 +1,290 @@
+package com.miniats.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Responses of completed writes, keyed by user and Idempotency-Key, so a retried
+ * write is answered from memory instead of running again.
+ * A key is claimed before the write runs; concurrent duplicates wait for that
+ * execution instead of starting their own. Only final outcomes (2xx-4xx except 429)
+ * are kept, for the TTL; a write that failed transiently releases the key so the
+ * retry runs it again. With a persist-file the store survives restarts.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    public enum Outcome { EXECUTE, REPLAY, MISMATCH, IN_PROGRESS }
+
+    /**
+     * Result of claiming a key; response is set for REPLAY
+     */
+    public record Claim(Outcome outcome, StoredResponse response) {}
+
+    /**
+     * A completed response with the fingerprint of the request that produced it
+     */
+    public record StoredResponse(
+            String fingerprint,
+            int status,
+            Map<String, String> headers,
+            byte[] body,
+            long expiresAt
+    ) {}
+
+    private record PersistedEntry(String key, StoredResponse response) {}
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long waitNanos;
+    private final int maxBodyBytes;
+    private final Path persistFile;
+    private final ScheduledExecutorService sweeper;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    // Insertion-ordered (so also by expiry) and capped; guarded by itself
+    private final LinkedHashMap<String, StoredResponse> completed;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+
+    public IdempotencyStore(
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.max-entries:50000}") int maxEntries,
+            @Value("${idempotency.wait-seconds:30}") long waitSeconds,
+            @Value("${idempotency.max-body-bytes:1048576}") int maxBodyBytes,
+            @Value("${idempotency.persist-file:}") String persistFile
+    ) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = TimeUnit.HOURS.toMillis(ttlHours);
+        this.waitNanos = TimeUnit.SECONDS.toNanos(waitSeconds);
+        this.maxBodyBytes = maxBodyBytes;
+        this.persistFile = persistFile.isBlank() ? null : Paths.get(persistFile);
+        this.completed = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        load();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor();
+        this.sweeper.scheduleWithFixedDelay(this::removeExpired, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Largest request body the filter buffers to fingerprint a request
+     */
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * Claim a key for a request. EXECUTE means the caller must run the write and then
+     * call {@link #complete} or {@link #release}; if another request holds the key,
+     * waits (up to wait-seconds) for it to finish first.
+     */
+    public Claim begin(String key, String fingerprint) throws InterruptedException {
+        long deadline = System.nanoTime() + waitNanos;
+        while (true) {
+            StoredResponse stored = find(key);
+            if (stored != null) {
+                return answer(stored, fingerprint);
+            }
+            InFlight mine = new InFlight(fingerprint);
+            InFlight running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                // The previous holder may have stored its response between the two lookups
+                stored = find(key);
+                if (stored != null) {
+                    inFlight.remove(key, mine);
+                    mine.future.complete(null);
+                    return answer(stored, fingerprint);
+                }
+                executed.increment();
+                return new Claim(Outcome.EXECUTE, null);
+            }
+            if (!running.fingerprint.equals(fingerprint)) {
+                mismatched.increment();
+                return new Claim(Outcome.MISMATCH, null);
+            }
+
+            waited.increment();
+            try {
+                running.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return new Claim(Outcome.IN_PROGRESS, null);
+            } catch (ExecutionException e) {
+                // Never completed exceptionally; look again
+            }
+            // Either replay the stored response or, if it was released, claim the key
+        }
+    }
+
+    /**
+     * Store the response of a claimed key and wake up waiting duplicates
+     */
+    public void complete(String key, String fingerprint, int status, Map<String, String> headers, byte[] body) {
+        StoredResponse response = new StoredResponse(
+                fingerprint, status, headers, body, System.currentTimeMillis() + ttlMillis);
+        synchronized (completed) {
+            completed.put(key, response);
+        }
+        finish(key, response);
+    }
+
+    /**
+     * Give up a claimed key without storing anything (the write may be retried)
+     */
+    public void release(String key) {
+        finish(key, null);
+    }
+
+    /**
+     * Whether a status is a final outcome worth replaying
+     */
+    public static boolean isStorable(int status) {
+        return status >= 200 && status < 500 && status != 429;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        synchronized (completed) {
+            metrics.put("stored", completed.size());
+        }
+        metrics.put("inFlight", inFlight.size());
+        metrics.put("executed", executed.sum());
+        metrics.put("replayed", replayed.sum());
+        metrics.put("waitedForInFlight", waited.sum());
+        metrics.put("keyReuseRejected", mismatched.sum());
+        return metrics;
+    }
+
+    private Claim answer(StoredResponse stored, String fingerprint) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            mismatched.increment();
+            return new Claim(Outcome.MISMATCH, null);
+        }
+        replayed.increment();
+        return new Claim(Outcome.REPLAY, stored);
+    }
+
+    private void finish(String key, StoredResponse response) {
+        InFlight running = inFlight.remove(key);
+        if (running != null) {
+            running.future.complete(response);
+        }
+    }
+
+    private StoredResponse find(String key) {
+        synchronized (completed) {
+            StoredResponse stored = completed.get(key);
+            if (stored != null && stored.expiresAt() <= System.currentTimeMillis()) {
+                completed.remove(key);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (completed) {
+            Iterator<StoredResponse> oldest = completed.values().iterator();
+            while (oldest.hasNext() && oldest.next().expiresAt() <= now) {
+                oldest.remove();
+            }
+        }
+    }
+
+    private void load() {
+        if (persistFile == null || !Files.exists(persistFile)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(persistFile)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                PersistedEntry entry = objectMapper.readValue(line, PersistedEntry.class);
+                if (entry.response().expiresAt() > now) {
+                    completed.put(entry.key(), entry.response());
+                }
+            }
+            logger.info("Loaded {} idempotency keys from {}", completed.size(), persistFile);
+        } catch (IOException e) {
+            logger.warn("Could not load idempotency keys from {}: {}", persistFile, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdownNow();
+        if (persistFile == null) {
+            return;
+        }
+        removeExpired();
+        List<PersistedEntry> entries = new ArrayList<>();
+        synchronized (completed) {
+            completed.forEach((key, response) -> entries.add(new PersistedEntry(key, response)));
+        }
+        try {
+            Path parent = persistFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            // Write aside and swap, so a crash mid-write keeps the previous snapshot
+            Path tmp = Files.createTempFile(parent, "idempotency", ".tmp");
+            try (Writer writer = new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tmp)), StandardCharsets.UTF_8)) {
+                for (PersistedEntry entry : entries) {
+                    writer.write(objectMapper.writeValueAsString(entry));
+                    writer.write('\n');
+                }
+            }
+            Files.move(tmp, persistFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved {} idempotency keys to {}", entries.size(), persistFile);
+        } catch (IOException e) {
+            logger.warn("Could not save idempotency keys to {}: {}", persistFile, e.getMessage());
+        }
+    }
+
+    private static final class InFlight {
+        private final String fingerprint;
+        private final CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+
+        private InFlight(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.miniats.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Latency and outcome of the most recent calls, kept in a fixed ring so that
+ * recording is O(1) and a snapshot never touches anything but memory.
+ */
+public final class RollingCallStats {
+
+    private final long[] finishedAt;
+    private final long[] durations;
+    private final boolean[] failures;
+    private int position;
+    private int recorded;
+
+    public RollingCallStats(int capacity) {
+        this.finishedAt = new long[capacity];
+        this.durations = new long[capacity];
+        this.failures = new boolean[capacity];
+    }
+
+    public synchronized void record(long durationNanos, boolean failure) {
+        finishedAt[position] = System.currentTimeMillis();
+        durations[position] = durationNanos;
+        failures[position] = failure;
+        position = (position + 1) % durations.length;
+        recorded = Math.min(recorded + 1, durations.length);
+    }
+
+    /**
+     * Calls that finished within the last windowMillis (at most the ring capacity)
+     */
+    public Snapshot snapshot(long windowMillis) {
+        long[] recent;
+        int calls = 0;
+        int failed = 0;
+        synchronized (this) {
+            long since = System.currentTimeMillis() - windowMillis;
+            recent = new long[recorded];
+            for (int i = 0; i < recorded; i++) {
+                if (finishedAt[i] >= since) {
+                    recent[calls++] = durations[i];
+                    if (failures[i]) {
+                        failed++;
+                    }
+                }
+            }
+        }
+        if (calls == 0) {
+            return new Snapshot(0, 0, 0, 0, 0);
+        }
+        Arrays.sort(recent, 0, calls);
+        return new Snapshot(calls, (double) failed / calls,
+                millis(recent[(calls - 1) / 2]), millis(recent[(int) Math.ceil(calls * 0.95) - 1]), millis(recent[calls - 1]));
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    public record Snapshot(int calls, double errorRate, long p50Millis, long p95Millis, long maxMillis) {}
+}
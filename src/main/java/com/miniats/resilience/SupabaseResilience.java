@@ -0,0 +1,204 @@
+package com.miniats.resilience;
+
+import com.miniats.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-table protection for Supabase calls.
+ * Every table gets its own circuit breaker and bulkhead (concurrency limit), so a
+ * slow table fails fast instead of tying up request threads needed by the others.
+ * Idempotent reads are retried with jittered exponential backoff; writes never are.
+ * Latency and outcome of recent calls across all tables feed the readiness probe.
+ */
+@Component
+public class SupabaseResilience {
+
+    private static final Logger logger = LoggerFactory.getLogger(SupabaseResilience.class);
+    private static final int RECENT_CALLS = 1024;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+    private final int halfOpenCalls;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Map<String, TableGuard> guards = new ConcurrentHashMap<>();
+    private final RollingCallStats recentCalls = new RollingCallStats(RECENT_CALLS);
+
+    public SupabaseResilience(
+            @Value("${supabase.resilience.breaker.window-size:20}") int windowSize,
+            @Value("${supabase.resilience.breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${supabase.resilience.breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${supabase.resilience.breaker.open-seconds:30}") long openSeconds,
+            @Value("${supabase.resilience.breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${supabase.resilience.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${supabase.resilience.bulkhead.max-wait-ms:250}") long maxWaitMillis,
+            @Value("${supabase.resilience.retry.max-attempts:3}") int maxAttempts,
+            @Value("${supabase.resilience.retry.base-backoff-ms:100}") long baseBackoffMillis,
+            @Value("${supabase.resilience.retry.max-backoff-ms:1000}") long maxBackoffMillis
+    ) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = TimeUnit.SECONDS.toMillis(openSeconds);
+        this.halfOpenCalls = halfOpenCalls;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Run a call against a table through its breaker and bulkhead.
+     * Throws {@link ServiceUnavailableException} when the call is rejected.
+     */
+    public <T> T execute(String table, boolean idempotent, Supplier<T> call) {
+        TableGuard guard = guards.computeIfAbsent(table, name -> new TableGuard());
+        int attempts = idempotent ? maxAttempts : 1;
+        for (int attempt = 1; ; attempt++) {
+            if (!guard.breaker.tryAcquire()) {
+                throw new ServiceUnavailableException("Supabase table '" + table + "' is unavailable (circuit open)",
+                        retryAfterSeconds(guard.breaker.remainingOpenMillis()));
+            }
+            if (!acquire(guard.bulkhead)) {
+                guard.breaker.onIgnored();
+                guard.bulkheadRejected.incrementAndGet();
+                throw new ServiceUnavailableException("Supabase table '" + table + "' is overloaded (too many concurrent calls)", 1);
+            }
+
+            RuntimeException failure;
+            long start = System.nanoTime();
+            try {
+                guard.calls.incrementAndGet();
+                T result = call.get();
+                guard.breaker.onSuccess();
+                recentCalls.record(System.nanoTime() - start, false);
+                return result;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    // The table answered; a bad request says nothing about its health
+                    guard.breaker.onSuccess();
+                    recentCalls.record(System.nanoTime() - start, false);
+                    throw e;
+                }
+                guard.breaker.onFailure();
+                recentCalls.record(System.nanoTime() - start, true);
+                guard.failures.incrementAndGet();
+                failure = e;
+            } finally {
+                guard.bulkhead.release();
+            }
+
+            if (attempt >= attempts) {
+                throw failure;
+            }
+            guard.retries.incrementAndGet();
+            long backoff = ThreadLocalRandom.current().nextLong(
+                    Math.min(maxBackoffMillis, baseBackoffMillis << (attempt - 1)) + 1);
+            logger.debug("Retrying {} call (attempt {}/{}) in {} ms: {}", table, attempt + 1, attempts, backoff, failure.getMessage());
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Breaker state and counters per table
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new TreeMap<>();
+        guards.forEach((table, guard) -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("state", guard.breaker.getState());
+            m.put("failureRate", Math.round(guard.breaker.getFailureRate() * 1000) / 1000.0);
+            m.put("calls", guard.calls.get());
+            m.put("failures", guard.failures.get());
+            m.put("retries", guard.retries.get());
+            m.put("breakerOpened", guard.breaker.getOpenedCount());
+            m.put("breakerRejected", guard.breaker.getRejectedCount());
+            m.put("bulkheadRejected", guard.bulkheadRejected.get());
+            m.put("inFlight", maxConcurrentCalls - guard.bulkhead.availablePermits());
+            metrics.put(table, m);
+        });
+        return metrics;
+    }
+
+    /**
+     * Latency and transient error rate of calls finished within the window
+     */
+    public RollingCallStats.Snapshot getRecentCalls(long windowMillis) {
+        return recentCalls.snapshot(windowMillis);
+    }
+
+    /**
+     * Tables whose circuit breaker is currently not closed
+     */
+    public List<String> getOpenCircuits() {
+        return guards.entrySet().stream()
+                .filter(entry -> entry.getValue().breaker.getState() != CircuitBreaker.State.CLOSED)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Network errors, 5xx and 429 are worth retrying and count against the breaker
+     */
+    public static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ResourceAccessException || t instanceof HttpServerErrorException
+                    || t instanceof HttpClientErrorException.TooManyRequests) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long retryAfterSeconds(long millis) {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(millis + 999));
+    }
+
+    private final class TableGuard {
+        private final CircuitBreaker breaker = new CircuitBreaker(
+                windowSize, minimumCalls, failureRateThreshold, openMillis, halfOpenCalls);
+        private final Semaphore bulkhead = new Semaphore(maxConcurrentCalls);
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong bulkheadRejected = new AtomicLong();
+    }
+}
@@ -0,0 +1,218 @@
+package com.miniats.resilience;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-organization request quotas.
+ * Each organization gets, per route class, a token bucket (sustained rate plus burst)
+ * and a cap on concurrent requests, so one tenant's scripted traffic cannot starve the
+ * others. All state is lock-free: the bucket is a single CAS-updated timestamp (GCRA)
+ * and the counters are striped {@link LongAdder}s.
+ */
+@Component
+public class TenantRateLimiter {
+
+    /**
+     * Route classes with independent quotas
+     */
+    public enum RouteClass {
+        READS, WRITES, EXPORTS;
+
+        String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire}; an allowed request must be passed to {@link #release}
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds, String reason) {
+        static final Decision ALLOWED = new Decision(true, 0, null);
+    }
+
+    private final boolean enabled;
+    private final Quota[] quotas = new Quota[RouteClass.values().length];
+    private final Map<UUID, Lane[]> tenants = new ConcurrentHashMap<>();
+
+    public TenantRateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.reads.requests-per-second:50}") double readRate,
+            @Value("${rate-limit.reads.burst:100}") int readBurst,
+            @Value("${rate-limit.reads.max-concurrent:20}") int readConcurrent,
+            @Value("${rate-limit.writes.requests-per-second:10}") double writeRate,
+            @Value("${rate-limit.writes.burst:20}") int writeBurst,
+            @Value("${rate-limit.writes.max-concurrent:10}") int writeConcurrent,
+            @Value("${rate-limit.exports.requests-per-second:0.1}") double exportRate,
+            @Value("${rate-limit.exports.burst:3}") int exportBurst,
+            @Value("${rate-limit.exports.max-concurrent:1}") int exportConcurrent
+    ) {
+        this.enabled = enabled;
+        quotas[RouteClass.READS.ordinal()] = Quota.of(readRate, readBurst, readConcurrent);
+        quotas[RouteClass.WRITES.ordinal()] = Quota.of(writeRate, writeBurst, writeConcurrent);
+        quotas[RouteClass.EXPORTS.ordinal()] = Quota.of(exportRate, exportBurst, exportConcurrent);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Take a concurrency slot and a token for the organization, or report how long to back off
+     */
+    public Decision tryAcquire(UUID organizationId, RouteClass routeClass) {
+        Lane lane = lane(organizationId, routeClass);
+        if (!lane.enter()) {
+            lane.concurrencyThrottled.increment();
+            return new Decision(false, 1, "Too many concurrent " + routeClass.key() + " for this organization");
+        }
+        long waitNanos = lane.takeToken(System.nanoTime());
+        if (waitNanos > 0) {
+            lane.exit();
+            lane.rateThrottled.increment();
+            return new Decision(false, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)),
+                    "Rate limit exceeded for " + routeClass.key());
+        }
+        lane.allowed.increment();
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * Give back the concurrency slot of an allowed request
+     */
+    public void release(UUID organizationId, RouteClass routeClass) {
+        lane(organizationId, routeClass).exit();
+    }
+
+    /**
+     * Allowed and throttled counts per route class, summed over all organizations
+     * (safe to publish without authentication)
+     */
+    public Map<String, Object> getSummary() {
+        long[][] totals = new long[RouteClass.values().length][4];
+        tenants.values().forEach(lanes -> {
+            for (RouteClass routeClass : RouteClass.values()) {
+                Lane lane = lanes[routeClass.ordinal()];
+                long[] t = totals[routeClass.ordinal()];
+                t[0] += lane.allowed.sum();
+                t[1] += lane.rateThrottled.sum();
+                t[2] += lane.concurrencyThrottled.sum();
+                t[3] += lane.inFlight.get();
+            }
+        });
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("organizations", tenants.size());
+        for (RouteClass routeClass : RouteClass.values()) {
+            long[] t = totals[routeClass.ordinal()];
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("allowed", t[0]);
+            m.put("rateThrottled", t[1]);
+            m.put("concurrencyThrottled", t[2]);
+            m.put("inFlight", t[3]);
+            summary.put(routeClass.key(), m);
+        }
+        return summary;
+    }
+
+    /**
+     * Allowed and throttled counts per organization and route class (admin only)
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new TreeMap<>();
+        tenants.forEach((organizationId, lanes) -> {
+            Map<String, Object> tenant = new LinkedHashMap<>();
+            for (RouteClass routeClass : RouteClass.values()) {
+                Lane lane = lanes[routeClass.ordinal()];
+                long allowed = lane.allowed.sum();
+                long rateThrottled = lane.rateThrottled.sum();
+                long concurrencyThrottled = lane.concurrencyThrottled.sum();
+                if (allowed + rateThrottled + concurrencyThrottled == 0) {
+                    continue;
+                }
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("allowed", allowed);
+                m.put("rateThrottled", rateThrottled);
+                m.put("concurrencyThrottled", concurrencyThrottled);
+                m.put("inFlight", lane.inFlight.get());
+                tenant.put(routeClass.key(), m);
+            }
+            metrics.put(organizationId.toString(), tenant);
+        });
+        return metrics;
+    }
+
+    private Lane lane(UUID organizationId, RouteClass routeClass) {
+        return tenants.computeIfAbsent(organizationId, id -> {
+            Lane[] lanes = new Lane[quotas.length];
+            for (int i = 0; i < quotas.length; i++) {
+                lanes[i] = new Lane(quotas[i]);
+            }
+            return lanes;
+        })[routeClass.ordinal()];
+    }
+
+    private record Quota(long intervalNanos, long toleranceNanos, int maxConcurrent) {
+        static Quota of(double requestsPerSecond, int burst, int maxConcurrent) {
+            long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+            return new Quota(interval, interval * Math.max(1, burst), maxConcurrent);
+        }
+    }
+
+    private static final class Lane {
+        private final Quota quota;
+        // Theoretical arrival time of the next request; "full bucket" when in the past
+        private final AtomicLong nextArrival;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rateThrottled = new LongAdder();
+        private final LongAdder concurrencyThrottled = new LongAdder();
+
+        Lane(Quota quota) {
+            this.quota = quota;
+            this.nextArrival = new AtomicLong(System.nanoTime() - quota.toleranceNanos());
+        }
+
+        /**
+         * Returns 0 if a token was taken, otherwise nanoseconds until one is available
+         */
+        long takeToken(long now) {
+            while (true) {
+                long current = nextArrival.get();
+                long next = (current - now > 0 ? current : now) + quota.intervalNanos();
+                long excess = next - now - quota.toleranceNanos();
+                if (excess > 0) {
+                    return excess;
+                }
+                if (nextArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean enter() {
+            while (true) {
+                int current = inFlight.get();
+                if (current >= quota.maxConcurrent()) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void exit() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.miniats.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniats.exception.GlobalExceptionHandler.ErrorResponse;
+import com.miniats.exception.TransientRepositoryException;
+import com.miniats.service.CacheWarmupService;
 import com.miniats.service.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,6 +11,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,23 +22,40 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 
 /**
  * JWT Authentication Filter.
  * Intercepts requests, validates JWT token, and sets Spring Security context.
+ * If the user lookup fails transiently the request is answered with 503 and
+ * Retry-After here, since GlobalExceptionHandler does not see filter exceptions.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    /**
+     * Request attribute holding the authenticated user's organization ID
+     */
+    public static final String ORGANIZATION_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".organizationId";
+
     private final JwtTokenValidator jwtTokenValidator;
     private final UserService userService;
-
-    public JwtAuthenticationFilter(JwtTokenValidator jwtTokenValidator, UserService userService) {
+    private final CacheWarmupService cacheWarmupService;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthenticationFilter(
+            JwtTokenValidator jwtTokenValidator,
+            UserService userService,
+            CacheWarmupService cacheWarmupService,
+            ObjectMapper objectMapper
+    ) {
         this.jwtTokenValidator = jwtTokenValidator;
         this.userService = userService;
+        this.cacheWarmupService = cacheWarmupService;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -79,14 +103,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 // Set authentication in context
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (userDTO.getOrganizationId() != null) {
+                    request.setAttribute(ORGANIZATION_ID_ATTRIBUTE, userDTO.getOrganizationId());
+                    cacheWarmupService.onTenantRequest(userDTO.getOrganizationId());
+                }
 
                 logger.debug("✅ Authenticated user: {} with role: {}", email, role);
             }
 
+        } catch (TransientRepositoryException e) {
+            // Data store down: don't let the request continue unauthenticated (401/403)
+            logger.warn("⚠️ Authentication unavailable: {}", e.getMessage());
+            SecurityContextHolder.clearContext();
+            unavailable(request, response, e);
+            return;
         } catch (Exception e) {
             logger.error("❌ Authentication failed: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void unavailable(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            TransientRepositoryException e
+    ) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service temporarily unavailable, please retry later",
+                Instant.now(),
+                "uri=" + request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
 }
\ No newline at end of file
@@ -17,21 +17,31 @@ import java.security.PublicKey;
 import java.security.spec.ECParameterSpec;
 import java.security.spec.ECPoint;
 import java.security.spec.ECPublicKeySpec;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Validates JWT tokens issued by Supabase Auth using JWKS endpoint.
+ * Keys are fetched on first use (or by the startup warm-up) and parsed once;
+ * a token signed with an unknown key id triggers a refetch. Fetches, failed or not,
+ * happen at most once a minute, so an unreachable JWKS endpoint is not hit per request.
  */
 @Component
 public class JwtTokenValidator {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenValidator.class);
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 60_000;
 
     private final String jwksUrl;
     private final RestTemplate restTemplate;
-    private Map<String, Object> jwks;
+    private volatile Map<String, PublicKey> keys;
+    private volatile Instant jwksFetchedAt;
+    // Guarded by "this"
+    private long lastAttemptMillis;
 
     public JwtTokenValidator(
             @Value("${supabase.jwt.jwks-url}") String jwksUrl,
@@ -39,25 +49,62 @@ public class JwtTokenValidator {
     ) {
         this.jwksUrl = jwksUrl;
         this.restTemplate = restTemplate;
-        this.jwks = fetchJwks();
         logger.info("✅ JWT Token Validator initialized with JWKS URL: {}", jwksUrl);
     }
 
     /**
-     * Fetch JWKS from Supabase
+     * Fetch JWKS from Supabase and replace the parsed signing keys
      */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> fetchJwks() {
+    public synchronized void refreshJwks() {
+        lastAttemptMillis = System.currentTimeMillis();
         try {
             Map<String, Object> response = restTemplate.getForObject(jwksUrl, Map.class);
-            logger.info("✅ JWKS fetched successfully");
-            return response;
+            Map<String, PublicKey> parsed = new HashMap<>();
+            for (Map<String, Object> key : (List<Map<String, Object>>) response.get("keys")) {
+                try {
+                    parsed.put((String) key.get("kid"), buildPublicKey(key));
+                } catch (RuntimeException e) {
+                    logger.warn("Skipping JWK {}: {}", key.get("kid"), e.getMessage());
+                }
+            }
+            this.keys = parsed;
+            this.jwksFetchedAt = Instant.now();
+            logger.info("✅ JWKS fetched successfully ({} keys)", parsed.size());
         } catch (Exception e) {
             logger.error("❌ Failed to fetch JWKS: {}", e.getMessage());
             throw new RuntimeException("Failed to fetch JWKS", e);
         }
     }
 
+    /**
+     * When the signing keys were last fetched (null if never)
+     */
+    public Instant getJwksFetchedAt() {
+        return jwksFetchedAt;
+    }
+
+    private PublicKey signingKey(String kid) {
+        Map<String, PublicKey> current = keys;
+        if (current == null || !current.containsKey(kid)) {
+            synchronized (this) {
+                // Not fetched yet or keys rotated; another thread may already have fetched
+                if (keys == current && System.currentTimeMillis() - lastAttemptMillis >= MIN_REFRESH_INTERVAL_MILLIS) {
+                    refreshJwks();
+                }
+            }
+        }
+        Map<String, PublicKey> latest = keys;
+        if (latest == null) {
+            throw new RuntimeException("JWKS not available, retrying in at most a minute");
+        }
+        PublicKey key = latest.get(kid);
+        if (key == null) {
+            throw new RuntimeException("No matching key found for kid: " + kid);
+        }
+        return key;
+    }
+
     /**
      * Validate JWT token and extract claims
      */
@@ -66,19 +113,8 @@ public class JwtTokenValidator {
             Claims claims = Jwts.parser()
                     .setSigningKeyResolver(new SigningKeyResolverAdapter() {
                         @Override
-                        @SuppressWarnings("unchecked")
                         public Key resolveSigningKey(JwsHeader header, Claims claims) {
-                            String kid = header.getKeyId();
-
-                            // Find matching key in JWKS
-                            var keys = (java.util.List<Map<String, Object>>) jwks.get("keys");
-                            for (Map<String, Object> key : keys) {
-                                if (kid.equals(key.get("kid"))) {
-                                    return buildPublicKey(key);
-                                }
-                            }
-
-                            throw new RuntimeException("No matching key found for kid: " + kid);
+                            return signingKey(header.getKeyId());
                         }
                     })
                     .build()
@@ -0,0 +1,142 @@
+package com.miniats.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniats.exception.GlobalExceptionHandler.ErrorResponse;
+import com.miniats.resilience.TenantRateLimiter;
+import com.miniats.resilience.TenantRateLimiter.Decision;
+import com.miniats.resilience.TenantRateLimiter.RouteClass;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Enforces per-organization quotas ({@link TenantRateLimiter}).
+ * Runs after {@link JwtAuthenticationFilter} and keys on the organization of the
+ * authenticated user; anonymous requests and users without an organization pass through.
+ * Throttled requests get 429 with a Retry-After header.
+ */
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantRateLimitFilter.class);
+
+    private final TenantRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public TenantRateLimitFilter(TenantRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Kanban event streams are long-lived and capped by the per-organization subscriber limit
+        return !rateLimiter.isEnabled()
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || path(request).endsWith("/events");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        UUID organizationId = (UUID) request.getAttribute(JwtAuthenticationFilter.ORGANIZATION_ID_ATTRIBUTE);
+        if (organizationId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RouteClass routeClass = classify(request);
+        Decision decision = rateLimiter.tryAcquire(organizationId, routeClass);
+        if (!decision.allowed()) {
+            logger.debug("Throttled {} {} for organization: {} - {}",
+                    request.getMethod(), request.getRequestURI(), organizationId, decision.reason());
+            reject(request, response, decision);
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streaming exports keep their slot until the response is fully written
+                request.getAsyncContext().addListener(new ReleaseListener(organizationId, routeClass));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                rateLimiter.release(organizationId, routeClass);
+            }
+        }
+    }
+
+    private RouteClass classify(HttpServletRequest request) {
+        if (path(request).endsWith("/export")) {
+            return RouteClass.EXPORTS;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                ? RouteClass.READS
+                : RouteClass.WRITES;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Decision decision) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                decision.reason(),
+                Instant.now(),
+                "uri=" + request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private final class ReleaseListener implements AsyncListener {
+        private final UUID organizationId;
+        private final RouteClass routeClass;
+
+        private ReleaseListener(UUID organizationId, RouteClass routeClass) {
+            this.organizationId = organizationId;
+            this.routeClass = routeClass;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            // Fires once after normal completion, error or timeout
+            rateLimiter.release(organizationId, routeClass);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
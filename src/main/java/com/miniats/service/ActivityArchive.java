@@ -0,0 +1,177 @@
+package com.miniats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniats.domain.model.Activity;
+import com.miniats.dto.ActivityDTO;
+import com.miniats.repository.ActivityRepository.FeedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cold storage for archived activities.
+ * One gzip-compressed NDJSON file per organization and month
+ * ({archive-dir}/{organizationId}/{yyyy-MM}.ndjson.gz). Each archive run appends a
+ * new gzip member, so files are never rewritten; readers see the members as one stream.
+ * archive-dir must be durable storage shared by every instance; without it nothing
+ * can be archived and reads return nothing.
+ */
+@Component
+public class ActivityArchive {
+
+    private static final String SUFFIX = ".ndjson.gz";
+
+    private final ObjectMapper objectMapper;
+    private final Path root;
+    // Readers must not see a gzip member that is still being written
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ActivityArchive(
+            ObjectMapper objectMapper,
+            @Value("${activities.retention.archive-dir:}") String archiveDir
+    ) {
+        this.objectMapper = objectMapper;
+        this.root = archiveDir.isBlank() ? null : Paths.get(archiveDir);
+    }
+
+    /**
+     * Archive root, or null when archive-dir is not configured
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Append activities to their monthly archive files and sync them to disk,
+     * so the caller can safely delete the rows afterwards
+     */
+    public void append(UUID organizationId, List<Activity> activities) throws IOException {
+        if (root == null) {
+            throw new IllegalStateException("activities.retention.archive-dir is not configured");
+        }
+        lock.writeLock().lock();
+        try {
+            appendLocked(organizationId, activities);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Read archived activities created in [from, to) (null bounds are open), newest
+     * first. Only the monthly files overlapping the range are opened.
+     */
+    public List<Activity> read(UUID organizationId, Instant from, Instant to, Set<String> types, int limit)
+            throws IOException {
+        lock.readLock().lock();
+        try {
+            return readLocked(organizationId, from, to, types, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void appendLocked(UUID organizationId, List<Activity> activities) throws IOException {
+        Map<YearMonth, List<Activity>> byMonth = activities.stream()
+                .collect(Collectors.groupingBy(activity -> monthOf(activity.getCreatedAt()), TreeMap::new, Collectors.toList()));
+
+        Path directory = Files.createDirectories(root.resolve(organizationId.toString()));
+        for (Map.Entry<YearMonth, List<Activity>> month : byMonth.entrySet()) {
+            File file = directory.resolve(month.getKey() + SUFFIX).toFile();
+            try (FileOutputStream out = new FileOutputStream(file, true)) {
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+                for (Activity activity : month.getValue()) {
+                    writer.write(objectMapper.writeValueAsString(ActivityDTO.fromEntity(activity)));
+                    writer.write('\n');
+                }
+                writer.flush();
+                gzip.finish();
+                out.getChannel().force(true);
+            }
+        }
+    }
+
+    private List<Activity> readLocked(UUID organizationId, Instant from, Instant to, Set<String> types, int limit)
+            throws IOException {
+        if (root == null) {
+            return List.of();
+        }
+        Path directory = root.resolve(organizationId.toString());
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        YearMonth first = from != null ? monthOf(from) : null;
+        YearMonth last = to != null ? monthOf(to) : null;
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                YearMonth month = YearMonth.parse(name.substring(0, name.length() - SUFFIX.length()));
+                if ((first == null || !month.isBefore(first)) && (last == null || !month.isAfter(last))) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.reverseOrder());
+
+        FeedQuery filter = new FeedQuery(organizationId, from, to, types, null, null, null, limit);
+        List<Activity> result = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        for (Path file : files) {
+            // Months are disjoint, so once a newer month fills the limit older ones cannot contribute
+            if (result.size() >= limit) {
+                break;
+            }
+            List<Activity> month = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Activity activity = toEntity(objectMapper.readValue(line, ActivityDTO.class));
+                    // A run interrupted between archiving and deleting re-archives the same rows
+                    if (filter.matches(activity) && seen.add(activity.getId())) {
+                        month.add(activity);
+                    }
+                }
+            }
+            month.sort(FeedQuery.NEWEST_FIRST);
+            result.addAll(month.subList(0, Math.min(month.size(), limit - result.size())));
+        }
+        return result;
+    }
+
+    private static YearMonth monthOf(Instant instant) {
+        return YearMonth.from(instant.atZone(ZoneOffset.UTC));
+    }
+
+    private static Activity toEntity(ActivityDTO dto) {
+        return Activity.builder()
+                .id(dto.id())
+                .organizationId(dto.organizationId())
+                .candidateId(dto.candidateId())
+                .applicationId(dto.applicationId())
+                .activityType(dto.activityType())
+                .description(dto.description())
+                .metadata(dto.metadata())
+                .createdBy(dto.createdBy())
+                .createdAt(dto.createdAt())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Activity;
+import com.miniats.repository.ActivityRepository;
+import com.miniats.repository.ActivityRepository.FeedQuery;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory window of each organization's most recent activities.
+ * Feed queries that can be answered entirely from the window (the usual
+ * dashboard case) never reach Supabase; new activities are added as they are logged.
+ * Each window is locked on its own, and expired windows are swept, so organizations
+ * nobody reads stop holding memory.
+ */
+@Component
+public class ActivityFeedCache {
+
+    private final ActivityRepository activityRepository;
+    private final OrganizationVersions organizationVersions;
+    private final int capacity;
+    private final long ttlMillis;
+    private final Map<UUID, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public ActivityFeedCache(
+            ActivityRepository activityRepository,
+            OrganizationVersions organizationVersions,
+            @Value("${activities.feed.recent-size:200}") int capacity,
+            @Value("${activities.feed.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.activityRepository = activityRepository;
+        this.organizationVersions = organizationVersions;
+        this.capacity = capacity;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor();
+        sweeper.scheduleWithFixedDelay(this::evictExpired, ttlSeconds, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Answer a feed query from the window, or empty if it may reach past it
+     */
+    public Optional<List<Activity>> find(FeedQuery query) {
+        Window window = windowFor(query.organizationId());
+        synchronized (window) {
+            List<Activity> page = new ArrayList<>(query.limit());
+            for (Activity activity : window.activities) {
+                if (query.matches(activity) && page.add(activity) && page.size() == query.limit()) {
+                    return Optional.of(page);
+                }
+            }
+            // A short page is only complete if nothing older could match
+            boolean covered = window.complete
+                    || (query.from() != null && !window.activities.isEmpty()
+                        && window.activities.last().getCreatedAt().isBefore(query.from()));
+            return covered ? Optional.of(page) : Optional.empty();
+        }
+    }
+
+    /**
+     * Add newly logged activities to their organizations' windows (if loaded)
+     */
+    public void append(List<Activity> activities) {
+        for (Activity activity : activities) {
+            if (activity.getId() == null || activity.getCreatedAt() == null) {
+                continue;
+            }
+            // Atomic with the install in windowFor, so an activity cannot slip between
+            // its version check and the window becoming visible
+            windows.computeIfPresent(activity.getOrganizationId(), (id, window) -> {
+                synchronized (window) {
+                    window.activities.add(activity);
+                    if (window.activities.size() > capacity) {
+                        window.activities.pollLast();
+                        window.complete = false;
+                    }
+                }
+                return window;
+            });
+        }
+    }
+
+    /**
+     * Drop an organization's window (e.g. after activities were deleted)
+     */
+    public void invalidate(UUID organizationId) {
+        windows.remove(organizationId);
+    }
+
+    private Window windowFor(UUID organizationId) {
+        Window window = windows.get(organizationId);
+        if (window != null && !window.isExpired(ttlMillis)) {
+            return window;
+        }
+        long version = organizationVersions.current(organizationId);
+        List<Activity> recent = activityRepository.findFeed(
+                new FeedQuery(organizationId, null, null, null, null, null, null, capacity));
+        Window fresh = new Window(recent, recent.size() < capacity);
+        // Activities are appended after the version bump, so an unchanged version
+        // means nothing was logged (and dropped) while the window was loading
+        windows.compute(organizationId, (id, current) ->
+                organizationVersions.current(organizationId) == version ? fresh : current);
+        return fresh;
+    }
+
+    /**
+     * Drop windows past their TTL; they would be reloaded on the next read anyway
+     */
+    private void evictExpired() {
+        windows.values().removeIf(window -> window.isExpired(ttlMillis));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Newest-first activities of one organization
+     */
+    private static final class Window {
+        private final long loadedAt = System.currentTimeMillis();
+        private final TreeSet<Activity> activities = new TreeSet<>(FeedQuery.NEWEST_FIRST);
+        private boolean complete;
+
+        Window(List<Activity> recent, boolean complete) {
+            this.activities.addAll(recent);
+            this.complete = complete;
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Activity;
+import com.miniats.domain.model.Organization;
+import com.miniats.repository.ActivityRepository;
+import com.miniats.repository.OrganizationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scheduled activity retention.
+ * Activities older than the retention age are moved, oldest first and one batch
+ * at a time, into the per-organization {@link ActivityArchive}; a batch is only
+ * deleted from the activities table once its archive file is synced to disk.
+ * Off by default. Enabling it requires an absolute archive-dir on durable storage
+ * shared by all instances; each run only proceeds on the instance holding an
+ * exclusive lock on a lease file there, so one elected instance does the work and
+ * another takes over when it goes away (the OS releases the lock).
+ */
+@Service
+public class ActivityRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRetentionService.class);
+
+    private static final String LEASE_FILE = ".retention.lock";
+
+    private final ActivityRepository activityRepository;
+    private final OrganizationRepository organizationRepository;
+    private final ActivityArchive activityArchive;
+    private final ActivityFeedCache activityFeedCache;
+    private final Duration retention;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    // Held while this instance is the elected one; guarded by "this"
+    private FileChannel leaseChannel;
+    private FileLock lease;
+
+    public ActivityRetentionService(
+            ActivityRepository activityRepository,
+            OrganizationRepository organizationRepository,
+            ActivityArchive activityArchive,
+            ActivityFeedCache activityFeedCache,
+            @Value("${activities.retention.enabled:false}") boolean enabled,
+            @Value("${activities.retention.retention-days:365}") long retentionDays,
+            @Value("${activities.retention.batch-size:500}") int batchSize,
+            @Value("${activities.retention.interval-hours:24}") long intervalHours,
+            @Value("${activities.retention.initial-delay-minutes:10}") long initialDelayMinutes
+    ) {
+        this.activityRepository = activityRepository;
+        this.organizationRepository = organizationRepository;
+        this.activityArchive = activityArchive;
+        this.activityFeedCache = activityFeedCache;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        if (enabled) {
+            Path root = activityArchive.getRoot();
+            if (root == null || !root.isAbsolute()) {
+                throw new IllegalStateException("activities.retention.enabled requires activities.retention.archive-dir "
+                        + "to be an absolute path on durable storage shared by all instances (got: " + root + ")");
+            }
+            scheduler.scheduleWithFixedDelay(this::runSafely,
+                    TimeUnit.MINUTES.toMillis(initialDelayMinutes), TimeUnit.HOURS.toMillis(intervalHours),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Archive and delete expired activities for every organization
+     */
+    void archiveExpired() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            try {
+                if (!holdLease()) {
+                    logger.debug("Activity retention skipped - another instance holds the lease");
+                    return;
+                }
+            } catch (IOException e) {
+                logger.error("Activity retention skipped - lease file not usable: {}", e.getMessage());
+                return;
+            }
+            Instant cutoff = Instant.now().minus(retention);
+            long total = 0;
+            for (Organization organization : organizationRepository.findAll()) {
+                try {
+                    total += archiveExpired(organization.getId(), cutoff);
+                } catch (Exception e) {
+                    // Leave this organization's rows in place and retry on the next run
+                    logger.error("Activity retention failed for organization: {}", organization.getId(), e);
+                }
+            }
+            logger.info("Activity retention run finished - {} activities archived", total);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long archiveExpired(UUID organizationId, Instant cutoff) throws IOException {
+        long start = System.nanoTime();
+        long archived = 0;
+        List<Activity> batch;
+        do {
+            batch = activityRepository.findOlderThan(organizationId, cutoff, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            activityArchive.append(organizationId, batch);
+            activityRepository.deleteByIds(batch.stream().map(Activity::getId).toList());
+            archived += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (archived > 0) {
+            activityFeedCache.invalidate(organizationId);
+            logger.info("Archived {} activities older than {} for organization: {} in {} ms",
+                    archived, cutoff, organizationId, (System.nanoTime() - start) / 1_000_000);
+        }
+        return archived;
+    }
+
+    /**
+     * Take or keep the exclusive lock on the shared lease file
+     */
+    private synchronized boolean holdLease() throws IOException {
+        if (lease != null && lease.isValid()) {
+            return true;
+        }
+        releaseLease();
+        Path root = Files.createDirectories(activityArchive.getRoot());
+        FileChannel channel = FileChannel.open(root.resolve(LEASE_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock acquired = channel.tryLock();
+            if (acquired == null) {
+                channel.close();
+                return false;
+            }
+            leaseChannel = channel;
+            lease = acquired;
+            logger.info("Activity retention lease acquired on {}", root.resolve(LEASE_FILE));
+            return true;
+        } catch (IOException | OverlappingFileLockException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private synchronized void releaseLease() {
+        try {
+            if (leaseChannel != null) {
+                // Closing the channel releases the lock
+                leaseChannel.close();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not release activity retention lease: {}", e.getMessage());
+        } finally {
+            leaseChannel = null;
+            lease = null;
+        }
+    }
+
+    private void runSafely() {
+        try {
+            archiveExpired();
+        } catch (Exception e) {
+            logger.error("Activity retention run failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        releaseLease();
+    }
+}
@@ -1,13 +1,24 @@
 package com.miniats.service;
 
+import com.miniats.domain.enums.ApplicationStatus;
 import com.miniats.domain.model.Activity;
+import com.miniats.domain.model.Application;
 import com.miniats.dto.ActivityDTO;
+import com.miniats.dto.ActivityFeedDTO;
 import com.miniats.repository.ActivityRepository;
+import com.miniats.repository.ActivityRepository.FeedQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -17,10 +28,29 @@ import java.util.stream.Collectors;
 @Service
 public class ActivityService {
 
+    public static final String STATUS_CHANGED = "status_changed";
+
     private final ActivityRepository activityRepository;
+    private final OrganizationVersions organizationVersions;
+    private final ActivityFeedCache activityFeedCache;
+    private final ActivityArchive activityArchive;
+    private final int feedDefaultLimit;
+    private final int archiveMaxLimit;
 
-    public ActivityService(ActivityRepository activityRepository) {
+    public ActivityService(
+            ActivityRepository activityRepository,
+            OrganizationVersions organizationVersions,
+            ActivityFeedCache activityFeedCache,
+            ActivityArchive activityArchive,
+            @Value("${activities.feed.default-limit:50}") int feedDefaultLimit,
+            @Value("${activities.retention.archive-max-limit:5000}") int archiveMaxLimit
+    ) {
         this.activityRepository = activityRepository;
+        this.organizationVersions = organizationVersions;
+        this.activityFeedCache = activityFeedCache;
+        this.activityArchive = activityArchive;
+        this.feedDefaultLimit = feedDefaultLimit;
+        this.archiveMaxLimit = archiveMaxLimit;
     }
 
     /**
@@ -39,6 +69,8 @@ public class ActivityService {
                 .build();
 
         Activity created = activityRepository.create(activity);
+        organizationVersions.bump(activity.getOrganizationId());
+        activityFeedCache.append(List.of(created));
         return ActivityDTO.fromEntity(created);
     }
 
@@ -59,7 +91,61 @@ public class ActivityService {
                 .createdAt(Instant.now())
                 .build();
 
-        activityRepository.create(activity);
+        Activity created = activityRepository.create(activity);
+        organizationVersions.bump(organizationId);
+        activityFeedCache.append(List.of(created));
+    }
+
+    /**
+     * Log an application's move from its current status to a new one
+     */
+    public void logStatusChange(UUID organizationId, Application application, ApplicationStatus to) {
+        Activity created = activityRepository.create(statusChangeActivity(organizationId, application, to, Instant.now()));
+        organizationVersions.bump(organizationId);
+        activityFeedCache.append(List.of(created));
+    }
+
+    /**
+     * Build a status_changed activity for an application (still holding its old status).
+     * The transition is stored in metadata (applicationId, jobId, from, to, at) so
+     * readers never have to parse the description.
+     */
+    public static Activity statusChangeActivity(
+            UUID organizationId,
+            Application application,
+            ApplicationStatus to,
+            Instant at
+    ) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("applicationId", application.getId().toString());
+        metadata.put("jobId", application.getJobId().toString());
+        metadata.put("from", application.getStatus().name());
+        metadata.put("to", to.name());
+        metadata.put("at", at.toString());
+
+        return Activity.builder()
+                .organizationId(organizationId)
+                .candidateId(application.getCandidateId())
+                .applicationId(application.getId())
+                .activityType(STATUS_CHANGED)
+                .description("Moved from " + application.getStatus().name() + " to " + to.name())
+                .metadata(metadata)
+                .createdAt(at)
+                .build();
+    }
+
+    /**
+     * Log many activities with a single bulk insert (helper method)
+     */
+    public void logActivities(List<Activity> activities) {
+        if (!activities.isEmpty()) {
+            List<Activity> created = activityRepository.createAll(activities);
+            activities.stream()
+                    .map(Activity::getOrganizationId)
+                    .distinct()
+                    .forEach(organizationVersions::bump);
+            activityFeedCache.append(created);
+        }
     }
 
     /**
@@ -82,6 +168,90 @@ public class ActivityService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the timeline of a single application, oldest first
+     */
+    public List<ActivityDTO> getActivitiesByApplication(UUID applicationId) {
+        return activityRepository.findByApplicationId(applicationId)
+                .stream()
+                .map(ActivityDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get one page of an organization's activity feed, newest first.
+     * Served from the recent-activity window when it covers the query,
+     * otherwise filtered and paged in Supabase.
+     */
+    public ActivityFeedDTO getActivityFeed(
+            UUID organizationId,
+            Instant from,
+            Instant to,
+            Set<String> types,
+            UUID candidateId,
+            String cursor,
+            Integer limit
+    ) {
+        int pageSize = limit != null ? limit : feedDefaultLimit;
+        if (pageSize < 1 || pageSize > activityFeedCache.getCapacity()) {
+            throw new IllegalArgumentException("limit must be between 1 and " + activityFeedCache.getCapacity());
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+
+        Instant beforeCreatedAt = null;
+        UUID beforeId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                beforeCreatedAt = Instant.parse(parts[0]);
+                beforeId = UUID.fromString(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        FeedQuery query = new FeedQuery(organizationId, from, to,
+                types != null && !types.isEmpty() ? Set.copyOf(types) : null,
+                candidateId, beforeCreatedAt, beforeId, pageSize);
+        List<Activity> page = activityFeedCache.find(query)
+                .orElseGet(() -> activityRepository.findFeed(query));
+
+        String nextCursor = null;
+        if (page.size() == pageSize) {
+            Activity last = page.get(page.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getCreatedAt() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new ActivityFeedDTO(page.stream().map(ActivityDTO::fromEntity).toList(), nextCursor);
+    }
+
+    /**
+     * Get archived activities of an organization created in [from, to), newest first
+     */
+    public List<ActivityDTO> getArchivedActivities(
+            UUID organizationId,
+            Instant from,
+            Instant to,
+            Set<String> types,
+            Integer limit
+    ) {
+        int max = limit != null ? limit : archiveMaxLimit;
+        if (max < 1 || max > archiveMaxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + archiveMaxLimit);
+        }
+        try {
+            return activityArchive.read(organizationId, from, to,
+                            types != null && !types.isEmpty() ? Set.copyOf(types) : null, max)
+                    .stream()
+                    .map(ActivityDTO::fromEntity)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read activity archive for organization: " + organizationId, e);
+        }
+    }
+
     /**
      * Get all activities for an organization
      */
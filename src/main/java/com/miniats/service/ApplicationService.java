@@ -1,21 +1,38 @@
 package com.miniats.service;
 
 import com.miniats.domain.enums.ApplicationStatus;
+import com.miniats.domain.model.Activity;
 import com.miniats.domain.model.Application;
 import com.miniats.domain.model.Candidate;
 import com.miniats.domain.model.Job;
 import com.miniats.dto.ApplicationDTO;
+import com.miniats.dto.BulkOperationResultDTO;
+import com.miniats.dto.BulkOperationResultDTO.ItemFailure;
 import com.miniats.dto.CandidateDTO;
 import com.miniats.dto.JobDTO;
+import com.miniats.dto.KanbanEventDTO;
+import com.miniats.exception.ResourceNotFoundException;
 import com.miniats.repository.ApplicationRepository;
 import com.miniats.repository.CandidateRepository;
+import com.miniats.repository.FieldSelection;
 import com.miniats.repository.JobRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for Application entity operations.
@@ -31,19 +48,34 @@ public class ApplicationService {
     private final CandidateRepository candidateRepository;
     private final UserService userService;
     private final ActivityService activityService;
+    private final KanbanEventHub kanbanEventHub;
+    private final OrganizationVersions organizationVersions;
+    private final KanbanBoardCache kanbanBoardCache;
+    private final FunnelAnalyticsService funnelAnalyticsService;
+    private final int bulkMaxItems;
 
     public ApplicationService(
             ApplicationRepository applicationRepository,
             JobRepository jobRepository,
             CandidateRepository candidateRepository,
             UserService userService,
-            ActivityService activityService
+            ActivityService activityService,
+            KanbanEventHub kanbanEventHub,
+            OrganizationVersions organizationVersions,
+            KanbanBoardCache kanbanBoardCache,
+            FunnelAnalyticsService funnelAnalyticsService,
+            @Value("${kanban.bulk.max-items:500}") int bulkMaxItems
     ) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.candidateRepository = candidateRepository;
         this.userService = userService;
         this.activityService = activityService;
+        this.kanbanEventHub = kanbanEventHub;
+        this.organizationVersions = organizationVersions;
+        this.kanbanBoardCache = kanbanBoardCache;
+        this.funnelAnalyticsService = funnelAnalyticsService;
+        this.bulkMaxItems = bulkMaxItems;
     }
 
     /**
@@ -53,19 +85,40 @@ public class ApplicationService {
         logger.debug("Fetching application with ID: {}", id);
 
         Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Application not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
 
         return enrichApplicationDTO(application);
     }
 
     /**
-     * Get all applications for a job (Kanban view for single job)
+     * Get all applications for a job (Kanban view for single job).
+     * Only the selected fields are fetched; candidates and the job are loaded in one
+     * batch each, and only if selected.
      */
-    public List<ApplicationDTO> getApplicationsByJob(UUID jobId) {
-        logger.debug("Fetching applications for job: {}", jobId);
+    public List<ApplicationDTO> getApplicationsByJob(UUID jobId, FieldSelection fields) {
+        logger.debug("Fetching applications for job: {} (fields: {})", jobId, fields);
 
-        return applicationRepository.findByJobId(jobId).stream()
-                .map(this::enrichApplicationDTO)
+        List<Application> applications = applicationRepository.findByJobId(jobId, fields);
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, CandidateDTO> candidates = fields.includes("candidate")
+                ? candidateRepository.findByIds(
+                                applications.stream().map(Application::getCandidateId).distinct().toList(),
+                                fields.nested("candidate")).stream()
+                        .collect(Collectors.toMap(Candidate::getId, CandidateDTO::fromEntity))
+                : Map.of();
+        JobDTO job = fields.includes("job")
+                ? jobRepository.findByIds(List.of(jobId), fields.nested("job")).stream()
+                        .findFirst()
+                        .map(JobDTO::fromEntity)
+                        .orElse(null)
+                : null;
+
+        return applications.stream()
+                .map(application -> fields.project(ApplicationDTO.fromEntityEnriched(
+                        application, candidates.get(application.getCandidateId()), job)))
                 .toList();
     }
 
@@ -98,9 +151,7 @@ public class ApplicationService {
     public List<ApplicationDTO> getApplicationsByOrganization(UUID organizationId) {
         logger.debug("Fetching applications for organization: {}", organizationId);
 
-        return applicationRepository.findByOrganizationId(organizationId).stream()
-                .map(this::enrichApplicationDTO)
-                .toList();
+        return kanbanBoardCache.getBoard(organizationId).getApplications();
     }
 
     /**
@@ -113,11 +164,7 @@ public class ApplicationService {
         logger.debug("Fetching applications for organization: {} and job: {}",
                 organizationId, jobId);
 
-        return applicationRepository
-                .findByOrganizationIdAndJobId(organizationId, jobId)
-                .stream()
-                .map(this::enrichApplicationDTO)
-                .toList();
+        return kanbanBoardCache.getBoard(organizationId).getApplicationsForJob(jobId);
     }
 
     /**
@@ -131,11 +178,7 @@ public class ApplicationService {
                 organizationId, status);
 
         ApplicationStatus appStatus = ApplicationStatus.fromString(status);
-        return applicationRepository
-                .findByOrganizationIdAndStatus(organizationId, appStatus)
-                .stream()
-                .map(this::enrichApplicationDTO)
-                .toList();
+        return kanbanBoardCache.getBoard(organizationId).getColumn(appStatus);
     }
 
     /**
@@ -164,7 +207,7 @@ public class ApplicationService {
 
         // Validate job exists
         Job job = jobRepository.findById(applicationDTO.jobId())
-                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + applicationDTO.jobId()));
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + applicationDTO.jobId()));
 
         // Validate candidate exists
         Candidate candidate = candidateRepository.findById(applicationDTO.candidateId())
@@ -205,6 +248,8 @@ public class ApplicationService {
         );
         logger.debug("Activity logged for new application");
 
+        publishChange(KanbanEventDTO.APPLICATION_CREATED, job.getOrganizationId(), saved, null);
+
         return enrichApplicationDTO(saved);
     }
 
@@ -216,7 +261,7 @@ public class ApplicationService {
 
         // Check if application exists
         Application existing = applicationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Application not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
 
         ApplicationStatus status = ApplicationStatus.fromString(newStatus);
         String oldStatus = existing.getStatus().name();
@@ -234,21 +279,19 @@ public class ApplicationService {
         Application saved = applicationRepository.update(updated);
         logger.info("Application status updated: {} -> {}", id, newStatus);
 
+        // Fetch job to get organizationId
+        UUID organizationId = organizationIdOf(existing.getJobId());
+
         // Log activity for status change
-        if (!oldStatus.equals(newStatus)) {
-            // Fetch job to get organizationId
-            Job job = jobRepository.findById(existing.getJobId())
-                    .orElseThrow(() -> new RuntimeException("Job not found with ID: " + existing.getJobId()));
-
-            activityService.logActivity(
-                    job.getOrganizationId(),
-                    existing.getCandidateId(),
-                    "status_changed",
-                    "Moved from " + oldStatus + " to " + newStatus
-            );
-            logger.debug("Activity logged for status change: {} -> {}", oldStatus, newStatus);
+        if (existing.getStatus() != status) {
+            activityService.logStatusChange(organizationId, existing, status);
+            logger.debug("Activity logged for status change: {} -> {}", oldStatus, status);
         }
 
+        publishChange(
+                existing.getStatus() != status ? KanbanEventDTO.STATUS_CHANGED : KanbanEventDTO.NOTES_UPDATED,
+                organizationId, saved, existing.getStatus());
+
         return enrichApplicationDTO(saved);
     }
 
@@ -257,7 +300,7 @@ public class ApplicationService {
      */
     public ApplicationDTO advanceApplication(UUID id) {
         Application existing = applicationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Application not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
 
         ApplicationStatus currentStatus = existing.getStatus();
         ApplicationStatus nextStatus = getNextStatus(currentStatus);
@@ -290,13 +333,14 @@ public class ApplicationService {
         logger.info("Updating notes for application: {}", id);
 
         Application existing = applicationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Application not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
 
         Application updated = existing.toBuilder()
                 .notes(notes)
                 .build();
 
         Application saved = applicationRepository.update(updated);
+        publishChange(KanbanEventDTO.NOTES_UPDATED, organizationIdOf(saved.getJobId()), saved, null);
         return enrichApplicationDTO(saved);
     }
 
@@ -306,12 +350,152 @@ public class ApplicationService {
     public void deleteApplication(UUID id) {
         logger.info("Deleting application with ID: {}", id);
 
-        if (!applicationRepository.existsById(id)) {
-            throw new RuntimeException("Application not found with ID: " + id);
-        }
+        Application existing = applicationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
 
         applicationRepository.deleteById(id);
         logger.info("Application deleted: {}", id);
+
+        publishChange(KanbanEventDTO.APPLICATION_DELETED, organizationIdOf(existing.getJobId()), existing, null);
+    }
+
+    /**
+     * Move many applications to one status (multi-select drag in Kanban).
+     * One read for all applications and their jobs, one filtered PATCH for the
+     * valid ones and one bulk insert for the activity entries.
+     */
+    public BulkOperationResultDTO bulkUpdateStatus(List<UUID> ids, String newStatus, String notes) {
+        List<UUID> requested = distinctIds(ids);
+        ApplicationStatus status = ApplicationStatus.fromString(newStatus);
+        logger.info("Bulk updating status of {} applications to: {}", requested.size(), status);
+
+        Map<UUID, Application> existing = applicationRepository.findByIds(requested).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        List<UUID> succeeded = new ArrayList<>();
+        List<ItemFailure> failed = new ArrayList<>();
+        List<Application> toUpdate = new ArrayList<>();
+        for (UUID id : requested) {
+            Application application = existing.get(id);
+            if (application == null) {
+                failed.add(new ItemFailure(id, "Application not found with ID: " + id));
+                continue;
+            }
+            try {
+                validateStatusTransition(application.getStatus(), status);
+            } catch (RuntimeException e) {
+                failed.add(new ItemFailure(id, e.getMessage()));
+                continue;
+            }
+            if (application.getStatus() != status || notes != null) {
+                toUpdate.add(application);
+            } else {
+                succeeded.add(id);
+            }
+        }
+
+        if (toUpdate.isEmpty()) {
+            logger.info("Bulk status update to {}: nothing to change", status);
+            return new BulkOperationResultDTO(requested.size(), succeeded, failed);
+        }
+
+        // The PATCH only matches rows still in a status the transition is allowed from,
+        // so a card moved since the read above fails instead of being overwritten
+        List<Application> saved = applicationRepository.updateStatusByIds(
+                toUpdate.stream().map(Application::getId).toList(), allowedFrom(status), status, notes);
+        Set<UUID> savedIds = saved.stream().map(Application::getId).collect(Collectors.toSet());
+        for (Application application : toUpdate) {
+            if (savedIds.contains(application.getId())) {
+                succeeded.add(application.getId());
+            } else {
+                failed.add(new ItemFailure(application.getId(),
+                        "Application was changed concurrently and cannot be moved to " + status));
+            }
+        }
+        // Report in request order
+        Map<UUID, Integer> position = new HashMap<>();
+        for (int i = 0; i < requested.size(); i++) {
+            position.put(requested.get(i), i);
+        }
+        succeeded.sort(Comparator.comparing(position::get));
+        failed.sort(Comparator.comparing(failure -> position.get(failure.applicationId())));
+        Map<UUID, UUID> organizationByJob = organizationIdsOf(toUpdate);
+
+        // Log activity for every application whose status actually changed
+        List<Application> moved = toUpdate.stream()
+                .filter(application -> savedIds.contains(application.getId()))
+                .filter(application -> application.getStatus() != status)
+                .toList();
+        if (!moved.isEmpty()) {
+            Instant now = Instant.now();
+            List<Activity> activities = moved.stream()
+                    .filter(application -> organizationByJob.containsKey(application.getJobId()))
+                    .map(application -> ActivityService.statusChangeActivity(
+                            organizationByJob.get(application.getJobId()), application, status, now))
+                    .toList();
+            activityService.logActivities(activities);
+            logger.debug("Logged {} status change activities", activities.size());
+        }
+
+        for (Application application : saved) {
+            ApplicationStatus previous = existing.get(application.getId()).getStatus();
+            UUID organizationId = organizationByJob.get(application.getJobId());
+            if (organizationId != null) {
+                publishEvent(
+                        previous != status ? KanbanEventDTO.STATUS_CHANGED : KanbanEventDTO.NOTES_UPDATED,
+                        organizationId, application, previous);
+            }
+        }
+        saved.stream()
+                .filter(application -> organizationByJob.containsKey(application.getJobId()))
+                .collect(Collectors.groupingBy(application -> organizationByJob.get(application.getJobId())))
+                .forEach(kanbanBoardCache::putApplications);
+
+        logger.info("Bulk status update to {}: {} succeeded, {} failed", status, succeeded.size(), failed.size());
+        return new BulkOperationResultDTO(requested.size(), succeeded, failed);
+    }
+
+    /**
+     * Reject many applications at once
+     */
+    public BulkOperationResultDTO bulkRejectApplications(List<UUID> ids, String reason) {
+        return bulkUpdateStatus(ids, ApplicationStatus.REJECTED.name(), reason);
+    }
+
+    /**
+     * Delete many applications with a single filtered DELETE
+     */
+    public BulkOperationResultDTO bulkDeleteApplications(List<UUID> ids) {
+        List<UUID> requested = distinctIds(ids);
+        logger.info("Bulk deleting {} applications", requested.size());
+
+        List<Application> applications = applicationRepository.findByIds(requested);
+        Set<UUID> existing = applications.stream()
+                .map(Application::getId)
+                .collect(Collectors.toSet());
+        List<UUID> found = requested.stream().filter(existing::contains).toList();
+        List<ItemFailure> failed = requested.stream()
+                .filter(id -> !existing.contains(id))
+                .map(id -> new ItemFailure(id, "Application not found with ID: " + id))
+                .toList();
+
+        if (!found.isEmpty()) {
+            Map<UUID, UUID> organizationByJob = organizationIdsOf(applications);
+            applicationRepository.deleteByIds(found);
+            Map<UUID, List<UUID>> deletedByOrganization = new HashMap<>();
+            applications.forEach(application -> {
+                UUID organizationId = organizationByJob.get(application.getJobId());
+                if (organizationId != null) {
+                    publishEvent(KanbanEventDTO.APPLICATION_DELETED, organizationId, application, null);
+                    deletedByOrganization.computeIfAbsent(organizationId, id -> new ArrayList<>())
+                            .add(application.getId());
+                }
+            });
+            deletedByOrganization.forEach(kanbanBoardCache::removeApplications);
+        }
+
+        logger.info("Bulk delete: {} deleted, {} failed", found.size(), failed.size());
+        return new BulkOperationResultDTO(requested.size(), found, failed);
     }
 
     /**
@@ -354,10 +538,10 @@ public class ApplicationService {
      */
     public boolean userHasAccessToApplication(String userEmail, UUID applicationId) {
         Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new RuntimeException("Application not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         Job job = jobRepository.findById(application.getJobId())
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         return userService.hasAccessToOrganization(userEmail, job.getOrganizationId());
     }
@@ -378,22 +562,96 @@ public class ApplicationService {
     }
 
     /**
-     * Validate status transition (business rule)
+     * Record a completed write: bump the organization version, push the Kanban
+     * delta and patch the cached board
      */
-    private void validateStatusTransition(ApplicationStatus from, ApplicationStatus to) {
-        // Can always reject
-        if (to == ApplicationStatus.REJECTED) {
-            return;
+    private void publishChange(String type, UUID organizationId, Application application, ApplicationStatus previous) {
+        publishEvent(type, organizationId, application, previous);
+        if (KanbanEventDTO.APPLICATION_DELETED.equals(type)) {
+            kanbanBoardCache.removeApplications(organizationId, List.of(application.getId()));
+        } else {
+            kanbanBoardCache.putApplications(organizationId, List.of(application));
+        }
+    }
+
+    /**
+     * Bump the organization version, push the Kanban delta and feed the hiring
+     * funnel (bulk callers patch the board once)
+     */
+    private void publishEvent(String type, UUID organizationId, Application application, ApplicationStatus previous) {
+        organizationVersions.bump(organizationId);
+        kanbanEventHub.publish(type, organizationId, application, previous);
+        switch (type) {
+            case KanbanEventDTO.APPLICATION_CREATED -> funnelAnalyticsService.recordCreated(organizationId, application);
+            case KanbanEventDTO.STATUS_CHANGED -> funnelAnalyticsService.recordStatusChange(organizationId, application);
+            case KanbanEventDTO.APPLICATION_DELETED -> funnelAnalyticsService.recordDeleted(organizationId, application);
+            default -> { }
+        }
+    }
+
+    /**
+     * Resolve the organization of a job
+     */
+    private UUID organizationIdOf(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .map(Job::getOrganizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId));
+    }
+
+    /**
+     * Resolve organizations for the jobs of many applications with one query
+     */
+    private Map<UUID, UUID> organizationIdsOf(List<Application> applications) {
+        return jobRepository.findByIds(applications.stream().map(Application::getJobId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Job::getOrganizationId));
+    }
+
+    /**
+     * De-duplicate bulk IDs (keeping order) and enforce the batch size limit
+     */
+    private List<UUID> distinctIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one application ID is required");
+        }
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.size() > bulkMaxItems) {
+            throw new IllegalArgumentException(
+                    "Too many applications in one request: " + distinct.size() + " (max " + bulkMaxItems + ")");
         }
+        return distinct;
+    }
 
-        // Cannot move from REJECTED or OFFER
-        if (from == ApplicationStatus.REJECTED || from == ApplicationStatus.OFFER) {
+    /**
+     * Validate status transition (business rule)
+     */
+    private void validateStatusTransition(ApplicationStatus from, ApplicationStatus to) {
+        if (!isValidTransition(from, to)) {
             throw new RuntimeException("Cannot change status from " + from);
         }
 
         logger.debug("Status transition validated: {} -> {}", from, to);
     }
 
+    private static boolean isValidTransition(ApplicationStatus from, ApplicationStatus to) {
+        // Can always reject; cannot move from REJECTED or OFFER
+        return to == ApplicationStatus.REJECTED
+                || (from != ApplicationStatus.REJECTED && from != ApplicationStatus.OFFER);
+    }
+
+    /**
+     * Statuses an application may be moved to {@code to} from
+     */
+    private static Set<ApplicationStatus> allowedFrom(ApplicationStatus to) {
+        Set<ApplicationStatus> allowed = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus from : ApplicationStatus.values()) {
+            if (isValidTransition(from, to)) {
+                allowed.add(from);
+            }
+        }
+        return allowed;
+    }
+
     /**
      * Get next status in pipeline
      */
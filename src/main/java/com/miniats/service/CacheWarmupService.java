@@ -0,0 +1,220 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Organization;
+import com.miniats.repository.ActivityRepository;
+import com.miniats.repository.OrganizationRepository;
+import com.miniats.security.JwtTokenValidator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills caches before traffic arrives, so the first recruiter after a deploy does not
+ * pay for cold caches.
+ * At startup: fetch the JWKS signing keys, list organizations, rank them by recent
+ * activity and build the Kanban board and dashboard of the most active ones. The
+ * instance reports not-ready until this finishes (or times out). Afterwards, the first
+ * authenticated request of any other organization warms that organization in the
+ * background. All loads share a small fixed pool.
+ */
+@Service
+public class CacheWarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+
+    private final JwtTokenValidator jwtTokenValidator;
+    private final OrganizationRepository organizationRepository;
+    private final ActivityRepository activityRepository;
+    private final KanbanBoardCache kanbanBoardCache;
+    private final DashboardService dashboardService;
+    private final boolean enabled;
+    private final int topOrganizations;
+    private final Duration activityWindow;
+    private final long timeoutSeconds;
+    private final long tenantIntervalMillis;
+    private final ExecutorService executor;
+    // Organization -> when it was last warmed (or queued)
+    private final Map<UUID, Long> warmedAt = new ConcurrentHashMap<>();
+    private volatile boolean warm;
+    private volatile Instant completedAt;
+
+    public CacheWarmupService(
+            JwtTokenValidator jwtTokenValidator,
+            OrganizationRepository organizationRepository,
+            ActivityRepository activityRepository,
+            KanbanBoardCache kanbanBoardCache,
+            DashboardService dashboardService,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.top-organizations:10}") int topOrganizations,
+            @Value("${warmup.activity-window-days:7}") long activityWindowDays,
+            @Value("${warmup.threads:4}") int threads,
+            @Value("${warmup.timeout-seconds:60}") long timeoutSeconds,
+            @Value("${warmup.tenant-interval-minutes:5}") long tenantIntervalMinutes
+    ) {
+        this.jwtTokenValidator = jwtTokenValidator;
+        this.organizationRepository = organizationRepository;
+        this.activityRepository = activityRepository;
+        this.kanbanBoardCache = kanbanBoardCache;
+        this.dashboardService = dashboardService;
+        this.enabled = enabled;
+        this.topOrganizations = topOrganizations;
+        this.activityWindow = Duration.ofDays(activityWindowDays);
+        this.timeoutSeconds = timeoutSeconds;
+        this.tenantIntervalMillis = TimeUnit.MINUTES.toMillis(tenantIntervalMinutes);
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.warm = !enabled;
+    }
+
+    /**
+     * Whether the startup warm-up has finished (always true when disabled)
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * When the startup warm-up finished (null while running or when disabled)
+     */
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * Warm an organization's caches in the background on its first request,
+     * and again once the previous warm-up is older than the tenant interval
+     */
+    public void onTenantRequest(UUID organizationId) {
+        if (!enabled || organizationId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long previous = warmedAt.get(organizationId);
+        if (previous != null && now - previous < tenantIntervalMillis) {
+            return;
+        }
+        boolean claimed = previous == null
+                ? warmedAt.putIfAbsent(organizationId, now) == null
+                : warmedAt.replace(organizationId, previous, now);
+        if (claimed) {
+            executor.execute(() -> warmOrganizationSafely(organizationId));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        if (enabled) {
+            // Off the startup thread; the web server is already up, readiness is not
+            Thread thread = new Thread(this::warmUp, "cache-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Startup warm-up; marks the instance warm when done, even if parts failed
+     */
+    void warmUp() {
+        long start = System.nanoTime();
+        try {
+            try {
+                jwtTokenValidator.refreshJwks();
+            } catch (Exception e) {
+                // Fetched again on the first token instead
+                logger.warn("Warm-up could not fetch JWKS: {}", e.getMessage());
+            }
+
+            List<UUID> organizations = mostActiveOrganizations();
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (UUID organizationId : organizations) {
+                warmedAt.put(organizationId, System.currentTimeMillis());
+                tasks.add(() -> {
+                    warmOrganizationSafely(organizationId);
+                    return null;
+                });
+            }
+            long remaining = TimeUnit.SECONDS.toNanos(timeoutSeconds) - (System.nanoTime() - start);
+            List<Future<Void>> results = executor.invokeAll(tasks, Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            long cancelled = results.stream().filter(Future::isCancelled).count();
+            if (cancelled > 0) {
+                logger.warn("Warm-up timed out after {} s - {} organizations not warmed", timeoutSeconds, cancelled);
+            }
+            logger.info("Cache warm-up finished - {} organizations in {} ms",
+                    organizations.size() - cancelled, (System.nanoTime() - start) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Cache warm-up failed", e);
+        } finally {
+            completedAt = Instant.now();
+            warm = true;
+        }
+    }
+
+    /**
+     * Organizations with the most activities in the recent window, busiest first
+     */
+    private List<UUID> mostActiveOrganizations() throws InterruptedException {
+        if (topOrganizations <= 0) {
+            return List.of();
+        }
+        List<Organization> organizations = organizationRepository.findAll();
+        Instant since = Instant.now().minus(activityWindow);
+        List<Callable<Long>> counts = organizations.stream()
+                .<Callable<Long>>map(organization -> () ->
+                        activityRepository.countByOrganizationIdSince(organization.getId(), since))
+                .toList();
+        List<Future<Long>> results = executor.invokeAll(counts, timeoutSeconds, TimeUnit.SECONDS);
+
+        Map<UUID, Long> activity = new ConcurrentHashMap<>();
+        for (int i = 0; i < organizations.size(); i++) {
+            try {
+                activity.put(organizations.get(i).getId(), results.get(i).get());
+            } catch (Exception e) {
+                // Unranked organizations are warmed on their first request instead
+            }
+        }
+        return activity.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<UUID, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topOrganizations)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void warmOrganizationSafely(UUID organizationId) {
+        try {
+            long start = System.nanoTime();
+            kanbanBoardCache.getBoard(organizationId);
+            dashboardService.prime(organizationId);
+            logger.debug("Warmed caches for organization: {} in {} ms",
+                    organizationId, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            // Allow another attempt on the organization's next request
+            warmedAt.remove(organizationId);
+            logger.warn("Warm-up failed for organization: {} - {}", organizationId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
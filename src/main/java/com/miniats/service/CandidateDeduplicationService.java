@@ -0,0 +1,321 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Candidate;
+import com.miniats.dto.DuplicateClusterDTO;
+import com.miniats.dto.DuplicateClusterDTO.DuplicatePair;
+import com.miniats.repository.CandidateRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Fuzzy duplicate-candidate detection.
+ * Candidates are only compared when they share a blocking key (normalized
+ * email, phone, LinkedIn slug or name-token prefix), which keeps both the
+ * incremental check on create and the organization-wide batch far from O(n²).
+ */
+@Service
+public class CandidateDeduplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateDeduplicationService.class);
+
+    private static final int BLOCKS_PER_TASK = 64;
+
+    private final CandidateRepository candidateRepository;
+    private final double threshold;
+    private final int maxBlockSize;
+    private final long ttlMillis;
+    private final ForkJoinPool pool;
+    private final Map<UUID, BlockIndex> indexes = new ConcurrentHashMap<>();
+
+    public CandidateDeduplicationService(
+            CandidateRepository candidateRepository,
+            @Value("${dedup.threshold:0.90}") double threshold,
+            @Value("${dedup.max-block-size:500}") int maxBlockSize,
+            @Value("${dedup.index-ttl-seconds:300}") long ttlSeconds,
+            @Value("${dedup.parallelism:0}") int parallelism
+    ) {
+        this.candidateRepository = candidateRepository;
+        this.threshold = threshold;
+        this.maxBlockSize = maxBlockSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.pool = parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Find likely duplicates of a (possibly unsaved) candidate within its organization
+     */
+    public List<DuplicatePair> findDuplicatesOf(Candidate candidate) {
+        if (candidate.getOrganizationId() == null) {
+            throw new IllegalArgumentException("Organization ID is required");
+        }
+        BlockIndex index = indexFor(candidate.getOrganizationId());
+        List<DuplicatePair> pairs = new ArrayList<>();
+        for (Candidate other : index.blockMates(candidate)) {
+            CandidateSimilarity.Match match = CandidateSimilarity.score(candidate, other);
+            if (match.score() >= threshold) {
+                pairs.add(new DuplicatePair(candidate.getId(), other.getId(), round(match.score()), match.reason()));
+            }
+        }
+        pairs.sort(Comparator.comparingDouble(DuplicatePair::score).reversed());
+        return pairs;
+    }
+
+    /**
+     * Add or refresh a saved candidate in the incremental index (no-op if not built yet)
+     */
+    public void register(Candidate candidate) {
+        if (candidate.getOrganizationId() == null) {
+            return;
+        }
+        BlockIndex index = indexes.get(candidate.getOrganizationId());
+        if (index != null) {
+            index.put(candidate);
+        }
+    }
+
+    /**
+     * Remove a candidate from the incremental index
+     */
+    public void unregister(UUID organizationId, UUID candidateId) {
+        if (organizationId == null) {
+            return;
+        }
+        BlockIndex index = indexes.get(organizationId);
+        if (index != null) {
+            index.remove(candidateId);
+        }
+    }
+
+    /**
+     * Drop the incremental index for an organization (e.g. after a bulk import)
+     */
+    public void invalidate(UUID organizationId) {
+        if (organizationId != null) {
+            indexes.remove(organizationId);
+        }
+    }
+
+    /**
+     * Batch job: cluster all duplicates in an organization.
+     * Blocks are scored in parallel on a fork-join pool and joined with union-find.
+     */
+    public List<DuplicateClusterDTO> findDuplicateClusters(UUID organizationId) {
+        long start = System.nanoTime();
+        List<Candidate> candidates = candidateRepository.findByOrganizationId(organizationId);
+
+        ConcurrentMap<String, List<Integer>> blocks = IntStream.range(0, candidates.size())
+                .parallel()
+                .boxed()
+                .flatMap(i -> CandidateSimilarity.blockingKeys(candidates.get(i)).stream()
+                        .map(key -> Map.entry(key, i)))
+                .collect(Collectors.groupingByConcurrent(
+                        Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
+                ));
+
+        List<List<Integer>> comparable = blocks.values().stream()
+                .filter(block -> block.size() > 1 && block.size() <= maxBlockSize)
+                .toList();
+
+        Set<Long> compared = ConcurrentHashMap.newKeySet();
+        List<ScoredPair> pairs = pool.invoke(new BlockScoringTask(candidates, comparable, 0, comparable.size(), compared));
+
+        List<DuplicateClusterDTO> clusters = cluster(candidates, pairs);
+        logger.info("Duplicate scan for organization: {} - {} candidates, {} blocks, {} comparisons, {} clusters in {} ms",
+                organizationId, candidates.size(), comparable.size(), compared.size(), clusters.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return clusters;
+    }
+
+    private List<DuplicateClusterDTO> cluster(List<Candidate> candidates, List<ScoredPair> pairs) {
+        int[] parent = IntStream.range(0, candidates.size()).toArray();
+        for (ScoredPair pair : pairs) {
+            int rootA = find(parent, pair.a());
+            int rootB = find(parent, pair.b());
+            if (rootA != rootB) {
+                parent[rootB] = rootA;
+            }
+        }
+
+        Map<Integer, List<ScoredPair>> pairsByRoot = new HashMap<>();
+        for (ScoredPair pair : pairs) {
+            pairsByRoot.computeIfAbsent(find(parent, pair.a()), root -> new ArrayList<>()).add(pair);
+        }
+
+        List<DuplicateClusterDTO> clusters = new ArrayList<>(pairsByRoot.size());
+        pairsByRoot.values().forEach(clusterPairs -> {
+            Set<UUID> ids = new LinkedHashSet<>();
+            List<DuplicatePair> dtoPairs = new ArrayList<>(clusterPairs.size());
+            for (ScoredPair pair : clusterPairs) {
+                UUID a = candidates.get(pair.a()).getId();
+                UUID b = candidates.get(pair.b()).getId();
+                ids.add(a);
+                ids.add(b);
+                dtoPairs.add(new DuplicatePair(a, b, round(pair.match().score()), pair.match().reason()));
+            }
+            clusters.add(new DuplicateClusterDTO(List.copyOf(ids), dtoPairs));
+        });
+        clusters.sort(Comparator.comparingInt((DuplicateClusterDTO c) -> c.candidateIds().size()).reversed());
+        return clusters;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static double round(double score) {
+        return Math.round(score * 1000) / 1000.0;
+    }
+
+    private BlockIndex indexFor(UUID organizationId) {
+        BlockIndex current = indexes.get(organizationId);
+        if (current != null && !current.isExpired(ttlMillis)) {
+            return current;
+        }
+        // Loaded outside the map so the fetch does not block other organizations' bins;
+        // if another request installed an index meanwhile, that one wins
+        BlockIndex fresh = new BlockIndex(maxBlockSize);
+        candidateRepository.findByOrganizationId(organizationId).forEach(fresh::put);
+        if (current == null) {
+            BlockIndex raced = indexes.putIfAbsent(organizationId, fresh);
+            return raced != null ? raced : fresh;
+        }
+        if (indexes.replace(organizationId, current, fresh)) {
+            return fresh;
+        }
+        BlockIndex raced = indexes.putIfAbsent(organizationId, fresh);
+        return raced != null ? raced : fresh;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdownNow();
+        }
+    }
+
+    private record ScoredPair(int a, int b, CandidateSimilarity.Match match) {}
+
+    /**
+     * Scores all pairs inside a range of blocks, splitting the range until it is small
+     */
+    private final class BlockScoringTask extends RecursiveTask<List<ScoredPair>> {
+        private final List<Candidate> candidates;
+        private final List<List<Integer>> blocks;
+        private final int from;
+        private final int to;
+        private final Set<Long> compared;
+
+        BlockScoringTask(List<Candidate> candidates, List<List<Integer>> blocks, int from, int to, Set<Long> compared) {
+            this.candidates = candidates;
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+            this.compared = compared;
+        }
+
+        @Override
+        protected List<ScoredPair> compute() {
+            if (to - from > BLOCKS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                BlockScoringTask left = new BlockScoringTask(candidates, blocks, from, mid, compared);
+                left.fork();
+                List<ScoredPair> right = new BlockScoringTask(candidates, blocks, mid, to, compared).compute();
+                List<ScoredPair> result = new ArrayList<>(left.join());
+                result.addAll(right);
+                return result;
+            }
+
+            List<ScoredPair> result = new ArrayList<>();
+            for (int b = from; b < to; b++) {
+                List<Integer> block = blocks.get(b);
+                for (int i = 0; i < block.size(); i++) {
+                    for (int j = i + 1; j < block.size(); j++) {
+                        int x = Math.min(block.get(i), block.get(j));
+                        int y = Math.max(block.get(i), block.get(j));
+                        // A pair sharing several blocks is scored only once
+                        if (x == y || !compared.add(((long) x << 32) | y)) {
+                            continue;
+                        }
+                        CandidateSimilarity.Match match =
+                                CandidateSimilarity.score(candidates.get(x), candidates.get(y));
+                        if (match.score() >= threshold) {
+                            result.add(new ScoredPair(x, y, match));
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Blocking-key index for one organization, used by the incremental check
+     */
+    private static final class BlockIndex {
+        private final long builtAt = System.currentTimeMillis();
+        private final int maxBlockSize;
+        private final Map<UUID, Candidate> byId = new HashMap<>();
+        private final Map<UUID, Set<String>> keysById = new HashMap<>();
+        private final Map<String, Set<UUID>> blocks = new HashMap<>();
+
+        BlockIndex(int maxBlockSize) {
+            this.maxBlockSize = maxBlockSize;
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - builtAt > ttlMillis;
+        }
+
+        synchronized void put(Candidate candidate) {
+            remove(candidate.getId());
+            Set<String> keys = CandidateSimilarity.blockingKeys(candidate);
+            byId.put(candidate.getId(), candidate);
+            keysById.put(candidate.getId(), keys);
+            keys.forEach(key -> blocks.computeIfAbsent(key, k -> new HashSet<>()).add(candidate.getId()));
+        }
+
+        synchronized void remove(UUID candidateId) {
+            byId.remove(candidateId);
+            Set<String> keys = keysById.remove(candidateId);
+            if (keys != null) {
+                keys.forEach(key -> {
+                    Set<UUID> block = blocks.get(key);
+                    if (block != null) {
+                        block.remove(candidateId);
+                        if (block.isEmpty()) {
+                            blocks.remove(key);
+                        }
+                    }
+                });
+            }
+        }
+
+        synchronized List<Candidate> blockMates(Candidate candidate) {
+            Set<UUID> mates = new HashSet<>();
+            for (String key : CandidateSimilarity.blockingKeys(candidate)) {
+                Set<UUID> block = blocks.get(key);
+                if (block != null && block.size() <= maxBlockSize) {
+                    mates.addAll(block);
+                }
+            }
+            mates.remove(candidate.getId());
+            return mates.stream().map(byId::get).toList();
+        }
+    }
+}
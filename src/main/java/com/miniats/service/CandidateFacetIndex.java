@@ -0,0 +1,288 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Candidate;
+import com.miniats.repository.CandidateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory faceted index over candidates, one per organization.
+ * Each facet value keeps a posting list (BitSet of candidate slots) so filters
+ * and facet counts are computed with bitwise AND/OR instead of scanning rows.
+ */
+@Component
+public class CandidateFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateFacetIndex.class);
+
+    public static final String CITY = "city";
+    public static final String AVAILABILITY = "availability";
+    public static final String EDUCATION_LEVEL = "educationLevel";
+    public static final String IS_EXPERIENCED = "isExperienced";
+    public static final String SKILLS = "skills";
+
+    private static final List<String> FACETS = List.of(CITY, AVAILABILITY, EDUCATION_LEVEL, IS_EXPERIENCED, SKILLS);
+
+    private final CandidateRepository candidateRepository;
+    private final long ttlMillis;
+    private final Map<UUID, OrgIndex> indexes = new ConcurrentHashMap<>();
+
+    public CandidateFacetIndex(
+            CandidateRepository candidateRepository,
+            @Value("${search.facet-index.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.candidateRepository = candidateRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Run a faceted query against the organization's index (built on first use)
+     */
+    public Result search(UUID organizationId, Query query) {
+        return indexFor(organizationId).search(query);
+    }
+
+    /**
+     * Add or replace a candidate in its organization's index (no-op if not built yet)
+     */
+    public void upsert(Candidate candidate) {
+        OrgIndex index = indexes.get(candidate.getOrganizationId());
+        if (index != null) {
+            index.upsert(candidate);
+        }
+    }
+
+    /**
+     * Remove a candidate from its organization's index
+     */
+    public void remove(UUID organizationId, UUID candidateId) {
+        OrgIndex index = indexes.get(organizationId);
+        if (index != null) {
+            index.remove(candidateId);
+        }
+    }
+
+    /**
+     * Drop the index for an organization so it is rebuilt on next query
+     */
+    public void invalidate(UUID organizationId) {
+        indexes.remove(organizationId);
+    }
+
+    private OrgIndex indexFor(UUID organizationId) {
+        OrgIndex current = indexes.get(organizationId);
+        if (current != null && !current.isExpired(ttlMillis)) {
+            return current;
+        }
+        // Built outside the map so the fetch does not block other organizations' bins;
+        // if another request installed an index meanwhile, that one wins
+        OrgIndex fresh = build(organizationId);
+        if (current != null && indexes.replace(organizationId, current, fresh)) {
+            return fresh;
+        }
+        OrgIndex raced = indexes.putIfAbsent(organizationId, fresh);
+        return raced != null ? raced : fresh;
+    }
+
+    private OrgIndex build(UUID organizationId) {
+        long start = System.nanoTime();
+        OrgIndex index = new OrgIndex();
+        candidateRepository.findByOrganizationId(organizationId).forEach(index::upsert);
+        logger.debug("Built facet index for organization: {} ({} candidates in {} ms)",
+                organizationId, index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * Normalize a facet value so "Stockholm " and "stockholm" share a posting list
+     */
+    static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Faceted query: values within a facet are OR'ed, facets are AND'ed.
+     * Skills are AND'ed (candidate must have every requested skill).
+     */
+    public record Query(
+            Map<String, Set<String>> filters,
+            int page,
+            int size
+    ) {
+        public Query {
+            Map<String, Set<String>> normalized = new HashMap<>();
+            if (filters != null) {
+                filters.forEach((facet, values) -> {
+                    if (!FACETS.contains(facet)) {
+                        throw new IllegalArgumentException("Unknown facet: " + facet);
+                    }
+                    Set<String> clean = new HashSet<>();
+                    if (values != null) {
+                        values.stream().map(CandidateFacetIndex::normalize)
+                                .filter(v -> v != null && !v.isEmpty())
+                                .forEach(clean::add);
+                    }
+                    if (!clean.isEmpty()) {
+                        normalized.put(facet, Set.copyOf(clean));
+                    }
+                });
+            }
+            filters = Map.copyOf(normalized);
+            if (page < 0) {
+                throw new IllegalArgumentException("Page must be >= 0");
+            }
+            if (size < 1 || size > 500) {
+                throw new IllegalArgumentException("Size must be between 1 and 500");
+            }
+        }
+    }
+
+    /**
+     * Query result: all matching IDs, the requested page and facet counts
+     */
+    public record Result(
+            List<UUID> matchingIds,
+            List<Candidate> page,
+            Map<String, Map<String, Integer>> facets
+    ) {}
+
+    /**
+     * Posting lists for a single organization. Candidates occupy stable slots;
+     * deleted slots are cleared from {@code live} and reused.
+     */
+    private static final class OrgIndex {
+        private final long builtAt = System.currentTimeMillis();
+        private final List<Candidate> slots = new ArrayList<>();
+        private final Map<UUID, Integer> slotById = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, Map<String, BitSet>> postings = new HashMap<>();
+
+        OrgIndex() {
+            FACETS.forEach(facet -> postings.put(facet, new HashMap<>()));
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - builtAt > ttlMillis;
+        }
+
+        synchronized int size() {
+            return live.cardinality();
+        }
+
+        synchronized void upsert(Candidate candidate) {
+            Integer existing = slotById.get(candidate.getId());
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                unindex(slot);
+            } else {
+                slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+                if (slot == slots.size()) {
+                    slots.add(null);
+                }
+                slotById.put(candidate.getId(), slot);
+            }
+            slots.set(slot, candidate);
+            live.set(slot);
+
+            post(CITY, candidate.getCity(), slot);
+            post(AVAILABILITY, candidate.getAvailability(), slot);
+            post(EDUCATION_LEVEL, candidate.getEducationLevel(), slot);
+            if (candidate.getIsExperienced() != null) {
+                post(IS_EXPERIENCED, candidate.getIsExperienced().toString(), slot);
+            }
+            candidate.getSkills().forEach(skill -> post(SKILLS, skill, slot));
+        }
+
+        synchronized void remove(UUID candidateId) {
+            Integer slot = slotById.remove(candidateId);
+            if (slot != null) {
+                unindex(slot);
+                slots.set(slot, null);
+                live.clear(slot);
+                freeSlots.push(slot);
+            }
+        }
+
+        synchronized Result search(Query query) {
+            BitSet matches = filter(query.filters(), null);
+
+            List<UUID> ids = new ArrayList<>(matches.cardinality());
+            List<Candidate> page = new ArrayList<>(query.size());
+            int from = query.page() * query.size();
+            int position = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                Candidate candidate = slots.get(slot);
+                ids.add(candidate.getId());
+                if (position >= from && page.size() < query.size()) {
+                    page.add(candidate);
+                }
+                position++;
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (String facet : FACETS) {
+                // Disjunctive facets are counted without their own filter so the UI
+                // can show how many results selecting another value would add
+                BitSet base = SKILLS.equals(facet) ? matches : filter(query.filters(), facet);
+                Map<String, Integer> counts = new TreeMap<>();
+                postings.get(facet).forEach((value, posting) -> {
+                    BitSet intersection = (BitSet) posting.clone();
+                    intersection.and(base);
+                    int count = intersection.cardinality();
+                    if (count > 0) {
+                        counts.put(value, count);
+                    }
+                });
+                facets.put(facet, counts);
+            }
+
+            return new Result(ids, page, facets);
+        }
+
+        private BitSet filter(Map<String, Set<String>> filters, String excludedFacet) {
+            BitSet result = (BitSet) live.clone();
+            filters.forEach((facet, values) -> {
+                if (facet.equals(excludedFacet)) {
+                    return;
+                }
+                Map<String, BitSet> facetPostings = postings.get(facet);
+                if (SKILLS.equals(facet)) {
+                    for (String value : values) {
+                        result.and(facetPostings.getOrDefault(value, new BitSet()));
+                    }
+                } else {
+                    BitSet union = new BitSet();
+                    for (String value : values) {
+                        BitSet posting = facetPostings.get(value);
+                        if (posting != null) {
+                            union.or(posting);
+                        }
+                    }
+                    result.and(union);
+                }
+            });
+            return result;
+        }
+
+        private void post(String facet, String value, int slot) {
+            String key = normalize(value);
+            if (key != null && !key.isEmpty()) {
+                postings.get(facet).computeIfAbsent(key, k -> new BitSet()).set(slot);
+            }
+        }
+
+        private void unindex(int slot) {
+            postings.values().forEach(facetPostings -> {
+                facetPostings.values().forEach(posting -> posting.clear(slot));
+                facetPostings.values().removeIf(BitSet::isEmpty);
+            });
+        }
+    }
+}
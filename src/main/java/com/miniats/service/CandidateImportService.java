@@ -0,0 +1,432 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Candidate;
+import com.miniats.dto.ImportJobDTO;
+import com.miniats.dto.ImportJobDTO.RowError;
+import com.miniats.exception.ResourceNotFoundException;
+import com.miniats.exception.TransientRepositoryException;
+import com.miniats.repository.CandidateRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for bulk candidate imports from CSV.
+ * The upload is parsed as a stream in chunks; each chunk is validated in
+ * parallel, deduplicated in memory against the organization's existing emails
+ * (prefetched in one query) and inserted with a single PostgREST array POST
+ * (split up only when the data store rejects it).
+ */
+@Service
+public class CandidateImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateImportService.class);
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.ofEntries(
+            Map.entry("fullname", "fullName"),
+            Map.entry("name", "fullName"),
+            Map.entry("email", "email"),
+            Map.entry("phone", "phone"),
+            Map.entry("linkedinurl", "linkedinUrl"),
+            Map.entry("linkedin", "linkedinUrl"),
+            Map.entry("resumeurl", "resumeUrl"),
+            Map.entry("notes", "notes"),
+            Map.entry("city", "city"),
+            Map.entry("availability", "availability"),
+            Map.entry("educationlevel", "educationLevel"),
+            Map.entry("isexperienced", "isExperienced"),
+            Map.entry("experienced", "isExperienced"),
+            Map.entry("skills", "skills"),
+            Map.entry("avatarurl", "avatarUrl"),
+            Map.entry("summary", "summary")
+    );
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateService candidateService;
+    private final OrganizationService organizationService;
+    private final ActivityService activityService;
+    private final CandidateFacetIndex candidateFacetIndex;
+    private final CandidateDeduplicationService deduplicationService;
+    private final OrganizationVersions organizationVersions;
+    private final int batchSize;
+    private final int maxErrors;
+    private final int insertAttempts;
+    private final long insertBackoffMillis;
+    private final Duration jobRetention;
+    private final ExecutorService executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public CandidateImportService(
+            CandidateRepository candidateRepository,
+            CandidateService candidateService,
+            OrganizationService organizationService,
+            ActivityService activityService,
+            CandidateFacetIndex candidateFacetIndex,
+            CandidateDeduplicationService deduplicationService,
+            OrganizationVersions organizationVersions,
+            @Value("${import.batch-size:500}") int batchSize,
+            @Value("${import.max-errors:1000}") int maxErrors,
+            @Value("${import.insert-attempts:3}") int insertAttempts,
+            @Value("${import.insert-backoff-ms:500}") long insertBackoffMillis,
+            @Value("${import.job-retention-minutes:60}") long jobRetentionMinutes,
+            @Value("${import.concurrent-jobs:2}") int concurrentJobs
+    ) {
+        this.candidateRepository = candidateRepository;
+        this.candidateService = candidateService;
+        this.organizationService = organizationService;
+        this.activityService = activityService;
+        this.candidateFacetIndex = candidateFacetIndex;
+        this.deduplicationService = deduplicationService;
+        this.organizationVersions = organizationVersions;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.insertAttempts = Math.max(1, insertAttempts);
+        this.insertBackoffMillis = insertBackoffMillis;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+        this.executor = Executors.newFixedThreadPool(concurrentJobs);
+    }
+
+    /**
+     * Start an asynchronous import; returns immediately with the job for polling
+     */
+    public ImportJobDTO startImport(UUID organizationId, MultipartFile file) {
+        logger.info("Starting candidate import for organization: {} ({} bytes)",
+                organizationId, file.getSize());
+
+        if (!organizationService.organizationExists(organizationId)) {
+            throw new ResourceNotFoundException("Organization not found with ID: " + organizationId);
+        }
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+
+        evictFinishedJobs();
+
+        // The multipart temp file is removed when the request ends, so keep our own copy
+        Path upload;
+        try {
+            upload = Files.createTempFile("candidate-import-", ".csv");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store import file: " + e.getMessage(), e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID(), organizationId);
+        jobs.put(job.id, job);
+        executor.submit(() -> run(job, upload));
+
+        return job.toDTO();
+    }
+
+    /**
+     * Get progress and error report for an import job
+     */
+    public ImportJobDTO getImportJob(UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job", jobId.toString());
+        }
+        return job.toDTO();
+    }
+
+    private void run(ImportJob job, Path upload) {
+        job.status = "RUNNING";
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(upload, StandardCharsets.UTF_8))) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("Import file has no header row");
+            }
+            Map<String, Integer> columns = resolveColumns(header);
+
+            Set<String> knownEmails = new HashSet<>();
+            candidateRepository.findEmailsByOrganizationId(job.organizationId)
+                    .forEach(email -> knownEmails.add(emailKey(email)));
+
+            List<RawRow> chunk = new ArrayList<>(batchSize);
+            long line = csv.getLineNumber();
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (!(record.size() == 1 && record.get(0).isBlank())) {
+                    job.rowsRead.incrementAndGet();
+                    chunk.add(new RawRow(line, record));
+                    if (chunk.size() == batchSize) {
+                        processChunk(job, chunk, columns, knownEmails);
+                        chunk = new ArrayList<>(batchSize);
+                    }
+                }
+                line = csv.getLineNumber();
+            }
+            processChunk(job, chunk, columns, knownEmails);
+
+            job.status = "COMPLETED";
+            logger.info("Candidate import {} completed: {} imported, {} skipped, {} failed",
+                    job.id, job.imported.get(), job.skipped.get(), job.failed.get());
+        } catch (Exception e) {
+            job.status = "FAILED";
+            job.message = e.getMessage();
+            logger.error("Candidate import {} failed: {}", job.id, e.getMessage(), e);
+        } finally {
+            job.finishedAt = Instant.now();
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                logger.warn("Could not delete import file {}: {}", upload, e.getMessage());
+            }
+            if (job.imported.get() > 0) {
+                candidateFacetIndex.invalidate(job.organizationId);
+                deduplicationService.invalidate(job.organizationId);
+                activityService.logActivity(
+                        job.organizationId,
+                        null,
+                        "candidates_imported",
+                        "Imported " + job.imported.get() + " candidates from CSV (" +
+                                job.skipped.get() + " skipped, " + job.failed.get() + " failed)"
+                );
+            }
+        }
+    }
+
+    private void processChunk(
+            ImportJob job,
+            List<RawRow> chunk,
+            Map<String, Integer> columns,
+            Set<String> knownEmails
+    ) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Validation is CPU-only, so fan it out; toList() keeps file order for dedupe
+        List<ParsedRow> parsed = chunk.parallelStream()
+                .map(row -> parse(row, columns, job.organizationId))
+                .toList();
+
+        List<ParsedRow> accepted = new ArrayList<>(parsed.size());
+        for (ParsedRow row : parsed) {
+            if (row.error() != null) {
+                job.failed.incrementAndGet();
+                job.addError(new RowError(row.line(), row.email(), row.error()));
+            } else if (row.email() != null && !knownEmails.add(emailKey(row.email()))) {
+                job.skipped.incrementAndGet();
+                job.addError(new RowError(row.line(), row.email(),
+                        "Candidate with this email already exists in this organization"));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            insert(job, accepted, knownEmails);
+        }
+    }
+
+    /**
+     * Insert rows with one array POST. Transient failures are retried; a batch the data
+     * store rejects is split in halves until the offending rows are isolated, so one bad
+     * row does not fail the rows around it.
+     */
+    private void insert(ImportJob job, List<ParsedRow> rows, Set<String> knownEmails) {
+        try {
+            List<Candidate> saved = saveWithRetry(rows);
+            job.imported.addAndGet(saved.size());
+            organizationVersions.bump(job.organizationId);
+        } catch (TransientRepositoryException e) {
+            logger.error("Batch insert failed for import {} after {} attempts: {}", job.id, insertAttempts, e.getMessage());
+            fail(job, rows, knownEmails, e);
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                logger.debug("Row {} rejected for import {}: {}", rows.get(0).line(), job.id, e.getMessage());
+                fail(job, rows, knownEmails, e);
+                return;
+            }
+            int half = rows.size() / 2;
+            insert(job, rows.subList(0, half), knownEmails);
+            insert(job, rows.subList(half, rows.size()), knownEmails);
+        }
+    }
+
+    private List<Candidate> saveWithRetry(List<ParsedRow> rows) {
+        List<Candidate> candidates = rows.stream().map(ParsedRow::candidate).toList();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return candidateRepository.saveAll(candidates);
+            } catch (TransientRepositoryException e) {
+                if (attempt >= insertAttempts) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(insertBackoffMillis << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void fail(ImportJob job, List<ParsedRow> rows, Set<String> knownEmails, Exception e) {
+        for (ParsedRow row : rows) {
+            // Nothing was stored, so a later row with this email is not a duplicate
+            if (row.email() != null) {
+                knownEmails.remove(emailKey(row.email()));
+            }
+            job.failed.incrementAndGet();
+            job.addError(new RowError(row.line(), row.email(), "Insert failed: " + e.getMessage()));
+        }
+    }
+
+    private ParsedRow parse(RawRow row, Map<String, Integer> columns, UUID organizationId) {
+        String email = value(row, columns, "email");
+        try {
+            if (email != null && (!email.contains("@") || email.indexOf('@') == email.length() - 1)) {
+                throw new IllegalArgumentException("Invalid email address");
+            }
+            String linkedinUrl = value(row, columns, "linkedinUrl");
+            candidateService.validateLinkedInUrl(linkedinUrl);
+
+            String skills = value(row, columns, "skills");
+            Candidate candidate = Candidate.builder()
+                    .organizationId(organizationId)
+                    .fullName(value(row, columns, "fullName"))
+                    .email(email)
+                    .phone(value(row, columns, "phone"))
+                    .linkedinUrl(linkedinUrl)
+                    .resumeUrl(value(row, columns, "resumeUrl"))
+                    .notes(value(row, columns, "notes"))
+                    .city(value(row, columns, "city"))
+                    .availability(value(row, columns, "availability"))
+                    .educationLevel(value(row, columns, "educationLevel"))
+                    .isExperienced(parseBoolean(value(row, columns, "isExperienced")))
+                    .skills(skills == null ? List.of() : Arrays.stream(skills.split("[;|]"))
+                            .map(String::trim)
+                            .filter(s -> !s.isEmpty())
+                            .toList())
+                    .avatarUrl(value(row, columns, "avatarUrl"))
+                    .summary(value(row, columns, "summary"))
+                    .build();
+            return new ParsedRow(row.line(), email, candidate, null);
+        } catch (RuntimeException e) {
+            return new ParsedRow(row.line(), email, null, e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String key = header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+            String field = COLUMN_ALIASES.get(key);
+            if (field != null) {
+                columns.putIfAbsent(field, i);
+            }
+        }
+        if (!columns.containsKey("fullName")) {
+            throw new IllegalArgumentException("Import file must have a full_name column");
+        }
+        return columns;
+    }
+
+    private String value(RawRow row, Map<String, Integer> columns, String field) {
+        Integer index = columns.get(field);
+        if (index == null || index >= row.fields().size()) {
+            return null;
+        }
+        String value = row.fields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Boolean parseBoolean(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> true;
+            case "false", "no", "n", "0" -> false;
+            default -> throw new IllegalArgumentException("Invalid is_experienced value: " + value);
+        };
+    }
+
+    private String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void evictFinishedJobs() {
+        Instant cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record RawRow(long line, List<String> fields) {}
+
+    private record ParsedRow(long line, String email, Candidate candidate, String error) {}
+
+    /**
+     * Mutable progress for one import; counters are updated by the worker and read by pollers
+     */
+    private final class ImportJob {
+        private final UUID id;
+        private final UUID organizationId;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<RowError> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean errorsTruncated;
+        private volatile String status = "QUEUED";
+        private volatile String message;
+        private volatile Instant finishedAt;
+
+        ImportJob(UUID id, UUID organizationId) {
+            this.id = id;
+            this.organizationId = organizationId;
+        }
+
+        void addError(RowError error) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        ImportJobDTO toDTO() {
+            List<RowError> snapshot;
+            synchronized (errors) {
+                snapshot = List.copyOf(errors);
+            }
+            return new ImportJobDTO(
+                    id,
+                    organizationId,
+                    status,
+                    rowsRead.get(),
+                    imported.get(),
+                    skipped.get(),
+                    failed.get(),
+                    snapshot,
+                    errorsTruncated,
+                    startedAt,
+                    finishedAt,
+                    message
+            );
+        }
+    }
+}
@@ -2,12 +2,18 @@ package com.miniats.service;
 
 import com.miniats.domain.model.Candidate;
 import com.miniats.dto.CandidateDTO;
+import com.miniats.dto.CandidateFacetResultDTO;
+import com.miniats.dto.DuplicateClusterDTO;
+import com.miniats.exception.ResourceNotFoundException;
 import com.miniats.repository.CandidateRepository;
+import com.miniats.repository.FieldSelection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -23,17 +29,32 @@ public class CandidateService {
     private final OrganizationService organizationService;
     private final UserService userService;
     private final ActivityService activityService;
+    private final CandidateFacetIndex candidateFacetIndex;
+    private final CandidateDeduplicationService deduplicationService;
+    private final OrganizationVersions organizationVersions;
+    private final KanbanBoardCache kanbanBoardCache;
+    private final ActivityFeedCache activityFeedCache;
 
     public CandidateService(
             CandidateRepository candidateRepository,
             OrganizationService organizationService,
             UserService userService,
-            ActivityService activityService
+            ActivityService activityService,
+            CandidateFacetIndex candidateFacetIndex,
+            CandidateDeduplicationService deduplicationService,
+            OrganizationVersions organizationVersions,
+            KanbanBoardCache kanbanBoardCache,
+            ActivityFeedCache activityFeedCache
     ) {
         this.candidateRepository = candidateRepository;
         this.organizationService = organizationService;
         this.userService = userService;
         this.activityService = activityService;
+        this.candidateFacetIndex = candidateFacetIndex;
+        this.deduplicationService = deduplicationService;
+        this.organizationVersions = organizationVersions;
+        this.kanbanBoardCache = kanbanBoardCache;
+        this.activityFeedCache = activityFeedCache;
     }
 
     /**
@@ -44,17 +65,18 @@ public class CandidateService {
 
         return candidateRepository.findById(id)
                 .map(CandidateDTO::fromEntity)
-                .orElseThrow(() -> new RuntimeException("Candidate not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with ID: " + id));
     }
 
     /**
-     * Get all candidates for an organization
+     * Get all candidates for an organization (only the selected fields are fetched)
      */
-    public List<CandidateDTO> getCandidatesByOrganization(UUID organizationId) {
-        logger.debug("Fetching candidates for organization: {}", organizationId);
+    public List<CandidateDTO> getCandidatesByOrganization(UUID organizationId, FieldSelection fields) {
+        logger.debug("Fetching candidates for organization: {} (fields: {})", organizationId, fields);
 
-        return candidateRepository.findByOrganizationId(organizationId).stream()
+        return candidateRepository.findByOrganizationId(organizationId, fields).stream()
                 .map(CandidateDTO::fromEntity)
+                .map(fields::project)
                 .toList();
     }
 
@@ -98,6 +120,34 @@ public class CandidateService {
                 .toList();
     }
 
+    /**
+     * Faceted candidate filtering within organization (served from the in-memory index)
+     */
+    public CandidateFacetResultDTO filterCandidates(
+            UUID organizationId,
+            Map<String, Set<String>> filters,
+            int page,
+            int size
+    ) {
+        logger.debug("Faceted candidate query in organization: {} with filters: {}", organizationId, filters);
+
+        CandidateFacetIndex.Result result = candidateFacetIndex.search(
+                organizationId,
+                new CandidateFacetIndex.Query(filters, page, size)
+        );
+
+        long total = result.matchingIds().size();
+        return new CandidateFacetResultDTO(
+                result.matchingIds(),
+                result.page().stream().map(CandidateDTO::fromEntity).toList(),
+                result.facets(),
+                page,
+                size,
+                total,
+                (int) ((total + size - 1) / size)
+        );
+    }
+
     /**
      * Get all candidates (admin only)
      */
@@ -118,7 +168,7 @@ public class CandidateService {
 
         // Validate organization exists
         if (!organizationService.organizationExists(candidateDTO.organizationId())) {
-            throw new RuntimeException("Organization not found with ID: " + candidateDTO.organizationId());
+            throw new ResourceNotFoundException("Organization not found with ID: " + candidateDTO.organizationId());
         }
 
         // Validate email uniqueness within organization if email provided
@@ -158,11 +208,41 @@ public class CandidateService {
 
         // Save and return
         Candidate saved = candidateRepository.save(candidate);
+        organizationVersions.bump(saved.getOrganizationId());
+        candidateFacetIndex.upsert(saved);
+        kanbanBoardCache.putCandidate(saved.getOrganizationId(), CandidateDTO.fromEntity(saved));
         logger.info("Candidate created with ID: {}", saved.getId());
 
+        flagDuplicates(saved);
+
         return CandidateDTO.fromEntity(saved);
     }
 
+    /**
+     * Flag fuzzy duplicates (typo'd names/emails, reformatted phones) on the timeline.
+     * Best-effort: the candidate is already stored, so a failure here must not fail the
+     * create (a 503 would release the Idempotency-Key and the retry would insert it again).
+     */
+    private void flagDuplicates(Candidate saved) {
+        try {
+            List<DuplicateClusterDTO.DuplicatePair> duplicates = deduplicationService.findDuplicatesOf(saved);
+            deduplicationService.register(saved);
+            if (!duplicates.isEmpty()) {
+                DuplicateClusterDTO.DuplicatePair best = duplicates.get(0);
+                activityService.logActivity(
+                        saved.getOrganizationId(),
+                        saved.getId(),
+                        "duplicate_suspected",
+                        "Possible duplicate of candidate " + best.duplicateId() +
+                                " (score " + best.score() + ", matched on " + best.reason() + ")"
+                );
+                logger.info("Candidate {} has {} suspected duplicate(s)", saved.getId(), duplicates.size());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Duplicate check skipped for candidate {}: {}", saved.getId(), e.getMessage());
+        }
+    }
+
     /**
      * Update candidate
      */
@@ -171,7 +251,7 @@ public class CandidateService {
 
         // Check if candidate exists
         Candidate existing = candidateRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Candidate not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with ID: " + id));
 
         // Verify organization match (cannot move candidate to different organization)
         if (!existing.getOrganizationId().equals(candidateDTO.organizationId())) {
@@ -215,6 +295,10 @@ public class CandidateService {
 
         // Save and return
         Candidate saved = candidateRepository.update(updated);
+        organizationVersions.bump(existing.getOrganizationId());
+        candidateFacetIndex.upsert(saved);
+        kanbanBoardCache.putCandidate(saved.getOrganizationId(), CandidateDTO.fromEntity(saved));
+        deduplicationService.register(saved);
         logger.info("Candidate updated: {}", saved.getId());
 
         // Log activity if notes were changed
@@ -238,14 +322,38 @@ public class CandidateService {
     public void deleteCandidate(UUID id) {
         logger.info("Deleting candidate with ID: {}", id);
 
-        if (!candidateRepository.existsById(id)) {
-            throw new RuntimeException("Candidate not found with ID: " + id);
-        }
+        Candidate existing = candidateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with ID: " + id));
 
         candidateRepository.deleteById(id);
+        organizationVersions.bump(existing.getOrganizationId());
+        kanbanBoardCache.invalidate(existing.getOrganizationId());
+        // The candidate's activities may be deleted with it
+        activityFeedCache.invalidate(existing.getOrganizationId());
+        candidateFacetIndex.remove(existing.getOrganizationId(), id);
+        deduplicationService.unregister(existing.getOrganizationId(), id);
         logger.info("Candidate deleted: {}", id);
     }
 
+    /**
+     * Check a candidate payload against existing candidates before creating it
+     */
+    public List<DuplicateClusterDTO.DuplicatePair> checkDuplicates(CandidateDTO candidateDTO) {
+        logger.debug("Checking duplicates for candidate: {} in organization: {}",
+                candidateDTO.fullName(), candidateDTO.organizationId());
+
+        return deduplicationService.findDuplicatesOf(candidateDTO.toEntity());
+    }
+
+    /**
+     * Find all clusters of suspected duplicate candidates in an organization
+     */
+    public List<DuplicateClusterDTO> findDuplicateClusters(UUID organizationId) {
+        logger.info("Running duplicate scan for organization: {}", organizationId);
+
+        return deduplicationService.findDuplicateClusters(organizationId);
+    }
+
     /**
      * Get candidate count for organization
      */
@@ -258,15 +366,15 @@ public class CandidateService {
      */
     public boolean userHasAccessToCandidate(String userEmail, UUID candidateId) {
         Candidate candidate = candidateRepository.findById(candidateId)
-                .orElseThrow(() -> new RuntimeException("Candidate not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate not found"));
 
         return userService.hasAccessToOrganization(userEmail, candidate.getOrganizationId());
     }
 
     /**
-     * Validate LinkedIn URL format
+     * Validate LinkedIn URL format (shared with bulk import)
      */
-    private void validateLinkedInUrl(String linkedinUrl) {
+    void validateLinkedInUrl(String linkedinUrl) {
         if (linkedinUrl == null || linkedinUrl.trim().isEmpty()) {
             return;
         }
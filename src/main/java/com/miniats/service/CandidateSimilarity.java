@@ -0,0 +1,222 @@
+package com.miniats.service;
+
+import com.miniats.domain.model.Candidate;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Normalization, blocking keys and similarity scoring for candidate deduplication.
+ */
+public final class CandidateSimilarity {
+
+    private static final int NAME_PREFIX_LENGTH = 3;
+    private static final int PHONE_SIGNIFICANT_DIGITS = 9;
+
+    private CandidateSimilarity() {
+    }
+
+    /**
+     * Lowercase, trim and drop "+tag" suffixes from the local part
+     */
+    public static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.indexOf('@');
+        if (at <= 0) {
+            return normalized;
+        }
+        String local = normalized.substring(0, at);
+        int plus = local.indexOf('+');
+        if (plus > 0) {
+            local = local.substring(0, plus);
+        }
+        return local + normalized.substring(at);
+    }
+
+    /**
+     * Keep digits only and compare on the trailing subscriber number so
+     * "+46 70-123 45 67" and "070 123 45 67" collapse to the same key
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String digits = phone.replaceAll("\\D", "");
+        if (digits.length() < 6) {
+            return null;
+        }
+        return digits.length() > PHONE_SIGNIFICANT_DIGITS
+                ? digits.substring(digits.length() - PHONE_SIGNIFICANT_DIGITS)
+                : digits;
+    }
+
+    /**
+     * Reduce a LinkedIn URL to its profile slug ("linkedin.com/in/anna-a/?x" -> "anna-a")
+     */
+    public static String normalizeLinkedinUrl(String linkedinUrl) {
+        if (linkedinUrl == null || linkedinUrl.isBlank()) {
+            return null;
+        }
+        String normalized = linkedinUrl.trim().toLowerCase(Locale.ROOT)
+                .replaceFirst("^https?://", "")
+                .replaceFirst("^([a-z]{2,3}\\.)?(www\\.)?", "");
+        int query = normalized.indexOf('?');
+        if (query >= 0) {
+            normalized = normalized.substring(0, query);
+        }
+        normalized = normalized.replaceAll("/+$", "");
+        int profile = normalized.indexOf("/in/");
+        return profile >= 0 ? normalized.substring(profile + 4) : normalized;
+    }
+
+    /**
+     * Strip diacritics and punctuation, lowercase and collapse whitespace
+     */
+    public static String normalizeName(String fullName) {
+        if (fullName == null) {
+            return "";
+        }
+        String ascii = Normalizer.normalize(fullName, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9 ]", " ")
+                .trim();
+        return ascii.isEmpty() ? "" : ascii.replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Normalized name with tokens sorted, so "Andersson, Anna" and "Anna Andersson" align
+     */
+    static String sortedTokens(String normalizedName) {
+        String[] tokens = normalizedName.split(" ");
+        Arrays.sort(tokens);
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * Blocking keys: only candidates sharing at least one key are compared.
+     * Exact identifier keys plus a short prefix of every name token, so a typo
+     * in one name token is still caught through the other.
+     */
+    public static Set<String> blockingKeys(Candidate candidate) {
+        Set<String> keys = new LinkedHashSet<>();
+        String email = normalizeEmail(candidate.getEmail());
+        if (email != null) keys.add("e:" + email);
+        String phone = normalizePhone(candidate.getPhone());
+        if (phone != null) keys.add("p:" + phone);
+        String linkedin = normalizeLinkedinUrl(candidate.getLinkedinUrl());
+        if (linkedin != null && !linkedin.isEmpty()) keys.add("l:" + linkedin);
+
+        String name = normalizeName(candidate.getFullName());
+        if (!name.isEmpty()) {
+            for (String token : name.split(" ")) {
+                if (token.length() >= 2) {
+                    keys.add("n:" + token.substring(0, Math.min(NAME_PREFIX_LENGTH, token.length())));
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Score a candidate pair in [0, 1]. Matching normalized email, phone or
+     * LinkedIn profile is a certain match; otherwise names are compared with
+     * Jaro-Winkler and blended with email similarity when both have one.
+     */
+    public static Match score(Candidate a, Candidate b) {
+        if (equalsNonNull(normalizeEmail(a.getEmail()), normalizeEmail(b.getEmail()))) {
+            return new Match(1.0, "email");
+        }
+        if (equalsNonNull(normalizePhone(a.getPhone()), normalizePhone(b.getPhone()))) {
+            return new Match(1.0, "phone");
+        }
+        if (equalsNonNull(normalizeLinkedinUrl(a.getLinkedinUrl()), normalizeLinkedinUrl(b.getLinkedinUrl()))) {
+            return new Match(1.0, "linkedin");
+        }
+
+        String nameA = normalizeName(a.getFullName());
+        String nameB = normalizeName(b.getFullName());
+        double nameScore = Math.max(
+                jaroWinkler(nameA, nameB),
+                jaroWinkler(sortedTokens(nameA), sortedTokens(nameB))
+        );
+        String emailA = normalizeEmail(a.getEmail());
+        String emailB = normalizeEmail(b.getEmail());
+        if (emailA != null && emailB != null) {
+            return new Match(0.6 * nameScore + 0.4 * jaroWinkler(emailA, emailB), "name+email");
+        }
+        return new Match(nameScore, "name");
+    }
+
+    /**
+     * Jaro-Winkler similarity with the standard 0.1 prefix scale (max 4 chars)
+     */
+    public static double jaroWinkler(String s1, String s2) {
+        if (s1.isEmpty() && s2.isEmpty()) {
+            return 1.0;
+        }
+        if (s1.isEmpty() || s2.isEmpty()) {
+            return 0.0;
+        }
+
+        int window = Math.max(0, Math.max(s1.length(), s2.length()) / 2 - 1);
+        boolean[] matched1 = new boolean[s1.length()];
+        boolean[] matched2 = new boolean[s2.length()];
+
+        int matches = 0;
+        for (int i = 0; i < s1.length(); i++) {
+            int start = Math.max(0, i - window);
+            int end = Math.min(i + window + 1, s2.length());
+            for (int j = start; j < end; j++) {
+                if (!matched2[j] && s1.charAt(i) == s2.charAt(j)) {
+                    matched1[i] = true;
+                    matched2[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        int k = 0;
+        for (int i = 0; i < s1.length(); i++) {
+            if (matched1[i]) {
+                while (!matched2[k]) {
+                    k++;
+                }
+                if (s1.charAt(i) != s2.charAt(k)) {
+                    transpositions++;
+                }
+                k++;
+            }
+        }
+
+        double m = matches;
+        double jaro = (m / s1.length() + m / s2.length() + (m - transpositions / 2.0) / m) / 3.0;
+
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(s1.length(), s2.length()));
+        while (prefix < maxPrefix && s1.charAt(prefix) == s2.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1.0 - jaro);
+    }
+
+    private static boolean equalsNonNull(String a, String b) {
+        return a != null && !a.isEmpty() && a.equals(b);
+    }
+
+    /**
+     * Pair score and the signal that produced it
+     */
+    public record Match(double score, String reason) {}
+}
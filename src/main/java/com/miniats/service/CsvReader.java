@@ -0,0 +1,108 @@
+package com.miniats.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 CSV reader.
+ * Reads one record at a time, so arbitrarily large uploads never sit in memory.
+ * Supports quoted fields with embedded commas, quotes ("") and line breaks.
+ */
+public final class CsvReader implements AutoCloseable {
+
+    private final Reader reader;
+    private int pushback = -2;
+    private long lineNumber = 1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Line on which the next record starts (1-based, counts embedded line breaks)
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Read the next record, or null at end of input
+     */
+    public List<String> readRecord() throws IOException {
+        int ch = read();
+        if (ch == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (quoted) {
+                if (ch == -1) {
+                    throw new IOException("Unterminated quoted field near line " + lineNumber);
+                }
+                if (ch == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        ch = next;
+                        continue;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (ch == '\r' || ch == '\n' || ch == -1) {
+                if (ch == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                if (ch != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) ch);
+                fieldStart = false;
+            }
+            ch = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int ch = pushback;
+            pushback = -2;
+            return ch;
+        }
+        return reader.read();
+    }
+
+    private void unread(int ch) {
+        pushback = ch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,217 @@
+package com.miniats.service;
+
+import com.miniats.domain.enums.ApplicationStatus;
+import com.miniats.dto.ActivityDTO;
+import com.miniats.dto.DashboardDTO;
+import com.miniats.repository.ApplicationRepository;
+import com.miniats.repository.CandidateRepository;
+import com.miniats.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Memoized organization dashboards.
+ * A dashboard is computed from parallel count queries (no rows are downloaded) plus
+ * the head of the activity feed, and stays valid until the organization's next write
+ * through the API ({@link OrganizationVersions}) or the TTL. A background task
+ * recomputes invalidated or expiring dashboards of recently viewed organizations,
+ * so the next request is normally served from memory.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    private final JobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ActivityService activityService;
+    private final OrganizationVersions organizationVersions;
+    private final int recentActivities;
+    private final long ttlMillis;
+    private final long idleMillis;
+    private final Map<UUID, Entry> dashboards = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Entry>> computing = new ConcurrentHashMap<>();
+    // Last time each organization's dashboard was requested; only these are refreshed
+    private final Map<UUID, Long> lastAccess = new ConcurrentHashMap<>();
+    private final ExecutorService queryExecutor;
+    private final ScheduledExecutorService refresher;
+
+    public DashboardService(
+            JobRepository jobRepository,
+            CandidateRepository candidateRepository,
+            ApplicationRepository applicationRepository,
+            ActivityService activityService,
+            OrganizationVersions organizationVersions,
+            @Value("${dashboard.recent-activities:10}") int recentActivities,
+            @Value("${dashboard.ttl-seconds:300}") long ttlSeconds,
+            @Value("${dashboard.refresh-seconds:5}") long refreshSeconds,
+            @Value("${dashboard.idle-minutes:30}") long idleMinutes,
+            @Value("${dashboard.query-threads:4}") int queryThreads
+    ) {
+        this.jobRepository = jobRepository;
+        this.candidateRepository = candidateRepository;
+        this.applicationRepository = applicationRepository;
+        this.activityService = activityService;
+        this.organizationVersions = organizationVersions;
+        this.recentActivities = recentActivities;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+        this.queryExecutor = Executors.newFixedThreadPool(queryThreads);
+        this.refresher = Executors.newSingleThreadScheduledExecutor();
+        refresher.scheduleWithFixedDelay(this::refreshAhead, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Get an organization's dashboard, computing it only if the memoized one is stale
+     */
+    public DashboardDTO getDashboard(UUID organizationId) {
+        long now = System.currentTimeMillis();
+        lastAccess.put(organizationId, now);
+        Entry entry = dashboards.get(organizationId);
+        if (entry != null && isFresh(organizationId, entry, now)) {
+            return entry.dashboard();
+        }
+        return compute(organizationId).dashboard();
+    }
+
+    /**
+     * Compute an organization's dashboard ahead of its first view (cache warm-up).
+     * Does not count as a view, so it does not keep the dashboard in the refresh-ahead set.
+     */
+    public void prime(UUID organizationId) {
+        Entry entry = dashboards.get(organizationId);
+        if (entry == null || !isFresh(organizationId, entry, System.currentTimeMillis())) {
+            compute(organizationId);
+        }
+    }
+
+    /**
+     * Compute and install a dashboard; concurrent callers for the same organization share one computation
+     */
+    private Entry compute(UUID organizationId) {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> running = computing.putIfAbsent(organizationId, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Entry entry = load(organizationId);
+            dashboards.put(organizationId, entry);
+            mine.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            computing.remove(organizationId, mine);
+        }
+    }
+
+    private Entry load(UUID organizationId) {
+        long start = System.nanoTime();
+        // Captured before loading: a concurrent write leaves the result stale, never wrongly fresh
+        long version = organizationVersions.current(organizationId);
+
+        CompletableFuture<Long> jobs = async(() -> jobRepository.countByOrganizationId(organizationId));
+        CompletableFuture<Long> activeJobs = async(() -> jobRepository.countActiveJobsByOrganizationId(organizationId));
+        CompletableFuture<Long> candidates = async(() -> candidateRepository.countByOrganizationId(organizationId));
+        Map<ApplicationStatus, CompletableFuture<Long>> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status, async(() -> applicationRepository.countByOrganizationIdAndStatus(organizationId, status)));
+        }
+        CompletableFuture<List<ActivityDTO>> activities = async(() -> activityService.getActivityFeed(
+                organizationId, null, null, null, null, null, recentActivities).activities());
+
+        try {
+            Map<String, Long> applicationsByStatus = new LinkedHashMap<>();
+            byStatus.forEach((status, count) -> applicationsByStatus.put(status.name(), count.join()));
+            DashboardDTO dashboard = new DashboardDTO(
+                    organizationId,
+                    jobs.join(),
+                    activeJobs.join(),
+                    candidates.join(),
+                    applicationsByStatus.values().stream().mapToLong(Long::longValue).sum(),
+                    applicationsByStatus,
+                    activities.join(),
+                    Instant.now()
+            );
+            logger.debug("Computed dashboard for organization: {} in {} ms",
+                    organizationId, (System.nanoTime() - start) / 1_000_000);
+            return new Entry(dashboard, version, System.currentTimeMillis());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, queryExecutor);
+    }
+
+    private boolean isFresh(UUID organizationId, Entry entry, long now) {
+        return entry.version() == organizationVersions.current(organizationId)
+                && now - entry.computedAt() < ttlMillis;
+    }
+
+    /**
+     * Recompute invalidated or soon-to-expire dashboards of recently viewed organizations
+     * and forget organizations nobody has looked at for a while
+     */
+    private void refreshAhead() {
+        long now = System.currentTimeMillis();
+        // Primed but never viewed: drop once expired
+        dashboards.entrySet().removeIf(e -> !lastAccess.containsKey(e.getKey())
+                && now - e.getValue().computedAt() > ttlMillis);
+        for (Map.Entry<UUID, Long> access : lastAccess.entrySet()) {
+            UUID organizationId = access.getKey();
+            if (now - access.getValue() > idleMillis) {
+                if (lastAccess.remove(organizationId, access.getValue())) {
+                    dashboards.remove(organizationId);
+                }
+                continue;
+            }
+            Entry entry = dashboards.get(organizationId);
+            boolean expiring = entry == null
+                    || entry.version() != organizationVersions.current(organizationId)
+                    || now - entry.computedAt() > ttlMillis * 3 / 4;
+            if (expiring) {
+                try {
+                    compute(organizationId);
+                } catch (Exception e) {
+                    // Keep serving on demand; the next run or request tries again
+                    logger.warn("Dashboard refresh failed for organization: {} - {}", organizationId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+        queryExecutor.shutdownNow();
+    }
+
+    private record Entry(DashboardDTO dashboard, long version, long computedAt) {}
+}
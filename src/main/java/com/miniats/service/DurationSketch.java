@@ -0,0 +1,56 @@
+package com.miniats.service;
+
+import java.util.Arrays;
+
+/**
+ * Streaming quantile sketch for durations.
+ * Log-spaced buckets (each 10% wider than the previous) give quantiles within
+ * ~5% relative error in constant time per update and a few hundred bytes,
+ * however many durations are recorded.
+ */
+final class DurationSketch {
+
+    private static final double GAMMA = 1.1;
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // Bucket 0 holds durations under one second; bucket i >= 1 covers [GAMMA^(i-1), GAMMA^i) seconds
+    private int[] buckets = new int[32];
+    private long count;
+    private double sumSeconds;
+
+    void record(long seconds) {
+        int index = seconds < 1 ? 0 : 1 + (int) (Math.log(seconds) / LOG_GAMMA);
+        if (index >= buckets.length) {
+            buckets = Arrays.copyOf(buckets, Math.max(index + 1, buckets.length * 2));
+        }
+        buckets[index]++;
+        count++;
+        sumSeconds += Math.max(0, seconds);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double meanSeconds() {
+        return count == 0 ? 0 : sumSeconds / count;
+    }
+
+    /**
+     * Nearest-rank quantile (q in [0, 1]), reported as the bucket's geometric midpoint
+     */
+    double quantileSeconds(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return i == 0 ? 0 : Math.pow(GAMMA, i - 0.5);
+            }
+        }
+        return Math.pow(GAMMA, buckets.length - 0.5);
+    }
+}
@@ -0,0 +1,234 @@
+package com.miniats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniats.domain.model.Application;
+import com.miniats.domain.model.Candidate;
+import com.miniats.dto.CandidateDTO;
+import com.miniats.repository.ApplicationRepository;
+import com.miniats.repository.ApplicationRepository.EnrichedApplication;
+import com.miniats.repository.CandidateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Service for streaming tenant exports.
+ * Pages through Supabase with keyset pagination and writes each page straight
+ * to the output stream, so memory use is bounded by the page size, not the tenant.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    private static final List<String> CANDIDATE_COLUMNS = List.of(
+            "id", "full_name", "email", "phone", "linkedin_url", "city", "availability",
+            "education_level", "is_experienced", "skills", "created_at", "updated_at"
+    );
+
+    private static final List<String> APPLICATION_COLUMNS = List.of(
+            "id", "job_id", "job_title", "candidate_id", "candidate_name", "candidate_email",
+            "status", "stage_order", "applied_at", "updated_at", "notes"
+    );
+
+    private static final Pattern PHONE_LIKE = Pattern.compile("[+\\-0-9 ()]+");
+
+    private final CandidateRepository candidateRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public ExportService(
+            CandidateRepository candidateRepository,
+            ApplicationRepository applicationRepository,
+            ObjectMapper objectMapper,
+            @Value("${export.page-size:1000}") int pageSize
+    ) {
+        this.candidateRepository = candidateRepository;
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Stream all candidates of an organization
+     */
+    public void exportCandidates(UUID organizationId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writeCsvRow(writer, CANDIDATE_COLUMNS);
+        }
+
+        long rows = 0;
+        UUID afterId = null;
+        List<Candidate> page;
+        do {
+            page = candidateRepository.findPageByOrganizationId(organizationId, afterId, pageSize);
+            for (Candidate candidate : page) {
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, candidateRow(candidate));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(CandidateDTO.fromEntity(candidate)));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+            rows += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == pageSize);
+
+        logger.info("Exported {} candidates for organization: {} as {}", rows, organizationId, format);
+    }
+
+    /**
+     * Stream all applications of an organization with job title and candidate name
+     */
+    public void exportApplications(UUID organizationId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writeCsvRow(writer, APPLICATION_COLUMNS);
+        }
+
+        long rows = 0;
+        UUID afterId = null;
+        List<EnrichedApplication> page;
+        do {
+            page = applicationRepository.findEnrichedPageByOrganizationId(organizationId, afterId, pageSize);
+            for (EnrichedApplication row : page) {
+                List<String> values = applicationRow(row);
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, values);
+                } else {
+                    Map<String, String> json = new LinkedHashMap<>();
+                    for (int i = 0; i < APPLICATION_COLUMNS.size(); i++) {
+                        if (values.get(i) != null) {
+                            json.put(toCamelCase(APPLICATION_COLUMNS.get(i)), values.get(i));
+                        }
+                    }
+                    writer.write(objectMapper.writeValueAsString(json));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+            rows += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).application().getId();
+            }
+        } while (page.size() == pageSize);
+
+        logger.info("Exported {} applications for organization: {} as {}", rows, organizationId, format);
+    }
+
+    private List<String> candidateRow(Candidate c) {
+        return Arrays.asList(
+                str(c.getId()), c.getFullName(), c.getEmail(), c.getPhone(), c.getLinkedinUrl(),
+                c.getCity(), c.getAvailability(), c.getEducationLevel(), str(c.getIsExperienced()),
+                String.join(";", c.getSkills()), str(c.getCreatedAt()), str(c.getUpdatedAt())
+        );
+    }
+
+    private List<String> applicationRow(EnrichedApplication row) {
+        Application a = row.application();
+        return Arrays.asList(
+                str(a.getId()), str(a.getJobId()), row.jobTitle(), str(a.getCandidateId()),
+                row.candidateName(), row.candidateEmail(), a.getStatus().name(),
+                String.valueOf(a.getStageOrder()), str(a.getAppliedAt()), str(a.getUpdatedAt()), a.getNotes()
+        );
+    }
+
+    private void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 quoting; cells that a spreadsheet would evaluate as a formula are
+     * prefixed with a quote (phone numbers like "+46 70..." are left alone)
+     */
+    private String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        boolean formula = value.charAt(0) == '=' || value.charAt(0) == '@'
+                || ((value.charAt(0) == '+' || value.charAt(0) == '-') && !PHONE_LIKE.matcher(value).matches());
+        String safe = formula ? "'" + value : value;
+        if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+
+    private String toCamelCase(String column) {
+        StringBuilder sb = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char ch : column.toCharArray()) {
+            if (ch == '_') {
+                upper = true;
+            } else {
+                sb.append(upper ? Character.toUpperCase(ch) : ch);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private String str(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromString(String format) {
+            if (format == null) {
+                return NDJSON;
+            }
+            try {
+                return Format.valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + format);
+            }
+        }
+    }
+}
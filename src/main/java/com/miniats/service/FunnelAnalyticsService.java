@@ -0,0 +1,533 @@
+package com.miniats.service;
+
+import com.miniats.domain.enums.ApplicationStatus;
+import com.miniats.domain.model.Activity;
+import com.miniats.domain.model.Application;
+import com.miniats.dto.FunnelReportDTO;
+import com.miniats.dto.FunnelReportDTO.StageConversion;
+import com.miniats.dto.FunnelReportDTO.StageMetrics;
+import com.miniats.exception.ResourceNotFoundException;
+import com.miniats.repository.ActivityRepository;
+import com.miniats.repository.ApplicationRepository;
+import com.miniats.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Hiring funnel analytics: stage conversion and time in stage.
+ * Each organization's funnel is rebuilt once from its applications and
+ * status_changed history, then kept current by the application write path,
+ * so a report is O(stages) instead of a scan over the whole activity log.
+ * One build runs per organization at a time; writes that land while it runs are
+ * replayed onto it before the live hooks take over. Funnels of organizations nobody
+ * has viewed for a while are dropped.
+ */
+@Service
+public class FunnelAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FunnelAnalyticsService.class);
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final List<ApplicationStatus> PIPELINE = List.of(
+            ApplicationStatus.NEW, ApplicationStatus.SCREENING, ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER
+    );
+    private static final Pattern STATUS_CHANGE = Pattern.compile("Moved from (\\w+) to (\\w+)");
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final ApplicationRepository applicationRepository;
+    private final ActivityRepository activityRepository;
+    private final JobRepository jobRepository;
+    private final ActivityArchive activityArchive;
+    private final long rebuildMillis;
+    private final long idleMillis;
+    private final int archiveMonths;
+    private final int maxArchivedChanges;
+    private final Map<UUID, OrgFunnel> funnels = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingBuild> building = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+
+    public FunnelAnalyticsService(
+            ApplicationRepository applicationRepository,
+            ActivityRepository activityRepository,
+            JobRepository jobRepository,
+            ActivityArchive activityArchive,
+            @Value("${analytics.funnel.rebuild-minutes:60}") long rebuildMinutes,
+            @Value("${analytics.funnel.idle-minutes:120}") long idleMinutes,
+            @Value("${analytics.funnel.archive-months:24}") int archiveMonths,
+            @Value("${analytics.funnel.max-archived-changes:200000}") int maxArchivedChanges
+    ) {
+        this.applicationRepository = applicationRepository;
+        this.activityRepository = activityRepository;
+        this.jobRepository = jobRepository;
+        this.activityArchive = activityArchive;
+        this.rebuildMillis = TimeUnit.MINUTES.toMillis(rebuildMinutes);
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+        this.archiveMonths = archiveMonths;
+        this.maxArchivedChanges = maxArchivedChanges;
+        this.evictor = Executors.newSingleThreadScheduledExecutor();
+        evictor.scheduleWithFixedDelay(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Funnel report for a whole organization
+     */
+    public FunnelReportDTO getOrganizationFunnel(UUID organizationId) {
+        OrgFunnel funnel = funnelFor(organizationId);
+        synchronized (funnel) {
+            return report(organizationId, null, funnel.total, funnel.builtAt);
+        }
+    }
+
+    /**
+     * Funnel report for a single job
+     */
+    public FunnelReportDTO getJobFunnel(UUID jobId) {
+        UUID organizationId = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId))
+                .getOrganizationId();
+        OrgFunnel funnel = funnelFor(organizationId);
+        synchronized (funnel) {
+            FunnelAggregate aggregate = funnel.byJob.getOrDefault(jobId, new FunnelAggregate());
+            return report(organizationId, jobId, aggregate, funnel.builtAt);
+        }
+    }
+
+    /**
+     * Record a new application (no-op until the organization's funnel is built)
+     */
+    public void recordCreated(UUID organizationId, Application application) {
+        Instant at = application.getAppliedAt() != null ? application.getAppliedAt() : Instant.now();
+        record(organizationId, funnel -> funnel.enter(application.getId(), application.getJobId(), application.getStatus(), at));
+    }
+
+    /**
+     * Record a status change; replays of the same change are ignored
+     */
+    public void recordStatusChange(UUID organizationId, Application application) {
+        Instant at = Instant.now();
+        record(organizationId, funnel -> funnel.move(application.getId(), application.getJobId(), application.getStatus(), at, true));
+    }
+
+    /**
+     * Record a deleted application; its history stays in the counts until the next rebuild
+     */
+    public void recordDeleted(UUID organizationId, Application application) {
+        record(organizationId, funnel -> funnel.remove(application.getId()));
+    }
+
+    /**
+     * Apply a write to the organization's funnel, or queue it for the build in progress.
+     * Every change is idempotent, so replaying one the build already saw is harmless.
+     */
+    private void record(UUID organizationId, Consumer<OrgFunnel> change) {
+        PendingBuild pending = building.get(organizationId);
+        if (pending != null && pending.offer(change)) {
+            return;
+        }
+        OrgFunnel funnel = funnels.get(organizationId);
+        if (funnel != null) {
+            change.accept(funnel);
+        }
+    }
+
+    private OrgFunnel funnelFor(UUID organizationId) {
+        OrgFunnel funnel = funnels.get(organizationId);
+        if (funnel == null || funnel.isExpired(rebuildMillis)) {
+            funnel = rebuild(organizationId);
+        }
+        funnel.lastRead = System.currentTimeMillis();
+        return funnel;
+    }
+
+    /**
+     * Build and install a funnel; concurrent callers for the same organization share one build
+     */
+    private OrgFunnel rebuild(UUID organizationId) {
+        PendingBuild mine = new PendingBuild();
+        PendingBuild running = building.putIfAbsent(organizationId, mine);
+        if (running != null) {
+            try {
+                return running.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            OrgFunnel fresh = build(organizationId);
+            // Install before catching up: writes arriving until the queue closes are
+            // still queued, later ones find the new funnel
+            funnels.put(organizationId, fresh);
+            mine.catchUp(fresh);
+            mine.result.complete(fresh);
+            return fresh;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(organizationId, mine);
+        }
+    }
+
+    /**
+     * Forget funnels nobody has requested for idle-minutes; the next request rebuilds
+     */
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        funnels.entrySet().removeIf(entry -> now - entry.getValue().lastRead > idleMillis);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        evictor.shutdownNow();
+    }
+
+    /**
+     * Replay the status_changed history over the current applications
+     */
+    private OrgFunnel build(UUID organizationId) {
+        long start = System.nanoTime();
+        List<Application> applications = applicationRepository.findByOrganizationId(organizationId);
+        List<Activity> changes = Stream.concat(
+                        archivedStatusChanges(organizationId).stream(),
+                        activityRepository.findByOrganizationIdAndType(organizationId, ActivityService.STATUS_CHANGED).stream())
+                .filter(activity -> activity.getCreatedAt() != null)
+                .sorted(Comparator.comparing(Activity::getCreatedAt))
+                .toList();
+
+        Map<UUID, Application> byId = applications.stream()
+                .collect(Collectors.toMap(Application::getId, application -> application));
+        Map<UUID, List<Application>> byCandidate = applications.stream()
+                .collect(Collectors.groupingBy(Application::getCandidateId));
+
+        OrgFunnel funnel = new OrgFunnel();
+        int replayed = 0;
+        for (Activity change : changes) {
+            Transition transition = transitionOf(change);
+            if (transition == null) {
+                continue;
+            }
+            Application application = change.getApplicationId() != null
+                    ? byId.get(change.getApplicationId())
+                    : attribute(funnel, byCandidate.get(change.getCandidateId()), transition.from(), change.getCreatedAt());
+            if (application == null) {
+                continue;
+            }
+            if (!funnel.states.containsKey(application.getId())) {
+                Instant entered = application.getAppliedAt() != null ? application.getAppliedAt() : change.getCreatedAt();
+                funnel.enter(application.getId(), application.getJobId(), transition.from(), entered);
+            }
+            funnel.move(application.getId(), application.getJobId(), transition.to(), transition.at(), true);
+            replayed++;
+        }
+
+        // Reconcile with the stored status; untimed, since the real change time is unknown
+        for (Application application : applications) {
+            if (!funnel.states.containsKey(application.getId())) {
+                Instant entered = application.getAppliedAt() != null ? application.getAppliedAt() : Instant.now();
+                funnel.enter(application.getId(), application.getJobId(), application.getStatus(), entered);
+            } else {
+                funnel.move(application.getId(), application.getJobId(), application.getStatus(), Instant.now(), false);
+            }
+        }
+
+        logger.info("Built hiring funnel for organization: {} - {} applications, {} of {} status changes replayed in {} ms",
+                organizationId, applications.size(), replayed, changes.size(), (System.nanoTime() - start) / 1_000_000);
+        return funnel;
+    }
+
+    /**
+     * Archived status changes of the last archive-months, newest max-archived-changes at most.
+     * Older stays count as untimed, like those in an unreadable archive.
+     */
+    private List<Activity> archivedStatusChanges(UUID organizationId) {
+        Instant from = Instant.now().atZone(ZoneOffset.UTC).minusMonths(archiveMonths).toInstant();
+        try {
+            List<Activity> changes = activityArchive.read(
+                    organizationId, from, null, Set.of(ActivityService.STATUS_CHANGED), maxArchivedChanges);
+            if (changes.size() == maxArchivedChanges) {
+                logger.debug("Funnel for organization {} uses only the newest {} archived status changes",
+                        organizationId, maxArchivedChanges);
+            }
+            return changes;
+        } catch (IOException e) {
+            // Archived stays then count as untimed; the funnel is still correct for current state
+            logger.warn("Could not read archived status changes for organization: {}", organizationId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Read a transition from the activity metadata, falling back to the description
+     * text for activities logged before transitions were structured
+     */
+    private static Transition transitionOf(Activity change) {
+        Map<String, Object> metadata = change.getMetadata();
+        ApplicationStatus from = parseStatus(metadata.get("from"));
+        ApplicationStatus to = parseStatus(metadata.get("to"));
+        if (from != null && to != null) {
+            Instant at = metadata.get("at") != null ? parseInstant(metadata.get("at")) : null;
+            return new Transition(from, to, at != null ? at : change.getCreatedAt());
+        }
+        if (change.getCandidateId() == null || change.getDescription() == null) {
+            return null;
+        }
+        Matcher matcher = STATUS_CHANGE.matcher(change.getDescription());
+        if (!matcher.find()) {
+            return null;
+        }
+        from = parseStatus(matcher.group(1));
+        to = parseStatus(matcher.group(2));
+        return from != null && to != null ? new Transition(from, to, change.getCreatedAt()) : null;
+    }
+
+    /**
+     * Pick the candidate's application a status change belongs to: the one currently
+     * in the change's source status, else the first not yet seen in the history
+     */
+    private Application attribute(OrgFunnel funnel, List<Application> candidates, ApplicationStatus from, Instant at) {
+        if (candidates == null) {
+            return null;
+        }
+        Application unseen = null;
+        for (Application application : candidates) {
+            ApplicationState state = funnel.states.get(application.getId());
+            if (state != null && state.status == from) {
+                return application;
+            }
+            if (state == null && unseen == null
+                    && (application.getAppliedAt() == null || !application.getAppliedAt().isAfter(at))) {
+                unseen = application;
+            }
+        }
+        return unseen;
+    }
+
+    private static ApplicationStatus parseStatus(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ApplicationStatus.valueOf(value.toString().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Instant parseInstant(Object value) {
+        try {
+            return Instant.parse(value.toString());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private FunnelReportDTO report(UUID organizationId, UUID jobId, FunnelAggregate aggregate, Instant since) {
+        List<StageConversion> conversions = new ArrayList<>(PIPELINE.size() - 1);
+        for (int i = 0; i + 1 < PIPELINE.size(); i++) {
+            long entered = aggregate.reached[PIPELINE.get(i).ordinal()];
+            long converted = aggregate.reached[PIPELINE.get(i + 1).ordinal()];
+            conversions.add(new StageConversion(
+                    PIPELINE.get(i).name(), PIPELINE.get(i + 1).name(), entered, converted, rate(converted, entered)));
+        }
+
+        List<StageMetrics> stages = new ArrayList<>(STATUSES.length);
+        for (ApplicationStatus status : STATUSES) {
+            int i = status.ordinal();
+            DurationSketch sketch = aggregate.timeInStage[i];
+            boolean timed = sketch.getCount() > 0;
+            stages.add(new StageMetrics(
+                    status.name(),
+                    aggregate.reached[i],
+                    aggregate.current[i],
+                    aggregate.rejectedFrom[i],
+                    sketch.getCount(),
+                    timed ? hours(sketch.meanSeconds()) : null,
+                    timed ? hours(sketch.quantileSeconds(0.5)) : null,
+                    timed ? hours(sketch.quantileSeconds(0.9)) : null
+            ));
+        }
+
+        long applications = aggregate.reached[ApplicationStatus.NEW.ordinal()];
+        return new FunnelReportDTO(
+                organizationId,
+                jobId,
+                applications,
+                conversions,
+                rate(aggregate.reached[ApplicationStatus.OFFER.ordinal()], applications),
+                stages,
+                since
+        );
+    }
+
+    private static Double rate(long numerator, long denominator) {
+        return denominator == 0 ? null : Math.round(numerator * 10_000.0 / denominator) / 10_000.0;
+    }
+
+    private static double hours(double seconds) {
+        return Math.round(seconds / SECONDS_PER_HOUR * 100) / 100.0;
+    }
+
+    private record Transition(ApplicationStatus from, ApplicationStatus to, Instant at) {}
+
+    /**
+     * Build in progress, with the writes it must catch up on before the live hooks take over
+     */
+    private static final class PendingBuild {
+        private final CompletableFuture<OrgFunnel> result = new CompletableFuture<>();
+        private final List<Consumer<OrgFunnel>> changes = new ArrayList<>();
+        private boolean closed;
+
+        synchronized boolean offer(Consumer<OrgFunnel> change) {
+            if (closed) {
+                return false;
+            }
+            changes.add(change);
+            return true;
+        }
+
+        synchronized void catchUp(OrgFunnel funnel) {
+            changes.forEach(change -> change.accept(funnel));
+            changes.clear();
+            closed = true;
+        }
+    }
+
+    /**
+     * Current stage of one application, as far as the funnel knows
+     */
+    private static final class ApplicationState {
+        private final UUID jobId;
+        private ApplicationStatus status;
+        private Instant enteredAt;
+        private int furthestStage = -1;
+
+        ApplicationState(UUID jobId, ApplicationStatus status, Instant enteredAt) {
+            this.jobId = jobId;
+            this.status = status;
+            this.enteredAt = enteredAt;
+        }
+    }
+
+    /**
+     * Counters for one scope (organization or job), indexed by status ordinal.
+     * Reaching a pipeline stage counts every earlier stage too, so candidates
+     * moved straight from NEW to INTERVIEW still count as screened.
+     */
+    private static final class FunnelAggregate {
+        private final long[] reached = new long[STATUSES.length];
+        private final long[] current = new long[STATUSES.length];
+        private final long[] rejectedFrom = new long[STATUSES.length];
+        private final DurationSketch[] timeInStage = new DurationSketch[STATUSES.length];
+
+        FunnelAggregate() {
+            for (int i = 0; i < timeInStage.length; i++) {
+                timeInStage[i] = new DurationSketch();
+            }
+        }
+    }
+
+    /**
+     * Incrementally maintained funnel of one organization
+     */
+    private static final class OrgFunnel {
+        private final Instant builtAt = Instant.now();
+        private volatile long lastRead = System.currentTimeMillis();
+        private final Map<UUID, ApplicationState> states = new HashMap<>();
+        private final FunnelAggregate total = new FunnelAggregate();
+        private final Map<UUID, FunnelAggregate> byJob = new HashMap<>();
+
+        boolean isExpired(long rebuildMillis) {
+            return Duration.between(builtAt, Instant.now()).toMillis() > rebuildMillis;
+        }
+
+        synchronized void enter(UUID applicationId, UUID jobId, ApplicationStatus status, Instant at) {
+            if (states.containsKey(applicationId)) {
+                return;
+            }
+            ApplicationState state = new ApplicationState(jobId, status, at);
+            states.put(applicationId, state);
+            FunnelAggregate job = byJob.computeIfAbsent(jobId, id -> new FunnelAggregate());
+            total.current[status.ordinal()]++;
+            job.current[status.ordinal()]++;
+            if (status == ApplicationStatus.REJECTED) {
+                reach(state, ApplicationStatus.NEW, job);
+                total.reached[status.ordinal()]++;
+                job.reached[status.ordinal()]++;
+            } else {
+                reach(state, status, job);
+            }
+        }
+
+        synchronized void move(UUID applicationId, UUID jobId, ApplicationStatus to, Instant at, boolean timed) {
+            ApplicationState state = states.get(applicationId);
+            if (state == null) {
+                enter(applicationId, jobId, to, at);
+                return;
+            }
+            if (state.status == to) {
+                return;
+            }
+            FunnelAggregate job = byJob.computeIfAbsent(state.jobId, id -> new FunnelAggregate());
+            int from = state.status.ordinal();
+            if (timed && state.enteredAt != null) {
+                long seconds = Math.max(0, Duration.between(state.enteredAt, at).getSeconds());
+                total.timeInStage[from].record(seconds);
+                job.timeInStage[from].record(seconds);
+            }
+            total.current[from]--;
+            job.current[from]--;
+            total.current[to.ordinal()]++;
+            job.current[to.ordinal()]++;
+            if (to == ApplicationStatus.REJECTED) {
+                total.rejectedFrom[from]++;
+                job.rejectedFrom[from]++;
+                total.reached[to.ordinal()]++;
+                job.reached[to.ordinal()]++;
+            } else {
+                reach(state, to, job);
+            }
+            state.status = to;
+            state.enteredAt = at;
+        }
+
+        synchronized void remove(UUID applicationId) {
+            ApplicationState state = states.remove(applicationId);
+            if (state != null) {
+                total.current[state.status.ordinal()]--;
+                FunnelAggregate job = byJob.get(state.jobId);
+                if (job != null) {
+                    job.current[state.status.ordinal()]--;
+                }
+            }
+        }
+
+        private void reach(ApplicationState state, ApplicationStatus stage, FunnelAggregate job) {
+            for (int i = state.furthestStage + 1; i <= stage.ordinal(); i++) {
+                total.reached[i]++;
+                job.reached[i]++;
+            }
+            state.furthestStage = Math.max(state.furthestStage, stage.ordinal());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.miniats.service;
 import com.miniats.domain.enums.JobStatus;
 import com.miniats.domain.model.Job;
 import com.miniats.dto.JobDTO;
+import com.miniats.exception.ResourceNotFoundException;
+import com.miniats.repository.FieldSelection;
 import com.miniats.repository.JobRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,15 +25,21 @@ public class JobService {
     private final JobRepository jobRepository;
     private final OrganizationService organizationService;
     private final UserService userService;
+    private final OrganizationVersions organizationVersions;
+    private final KanbanBoardCache kanbanBoardCache;
 
     public JobService(
             JobRepository jobRepository,
             OrganizationService organizationService,
-            UserService userService
+            UserService userService,
+            OrganizationVersions organizationVersions,
+            KanbanBoardCache kanbanBoardCache
     ) {
         this.jobRepository = jobRepository;
         this.organizationService = organizationService;
         this.userService = userService;
+        this.organizationVersions = organizationVersions;
+        this.kanbanBoardCache = kanbanBoardCache;
     }
 
     /**
@@ -42,17 +50,18 @@ public class JobService {
 
         return jobRepository.findById(id)
                 .map(JobDTO::fromEntity)
-                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + id));
     }
 
     /**
-     * Get all jobs for an organization
+     * Get all jobs for an organization (only the selected fields are fetched)
      */
-    public List<JobDTO> getJobsByOrganization(UUID organizationId) {
-        logger.debug("Fetching jobs for organization: {}", organizationId);
+    public List<JobDTO> getJobsByOrganization(UUID organizationId, FieldSelection fields) {
+        logger.debug("Fetching jobs for organization: {} (fields: {})", organizationId, fields);
 
-        return jobRepository.findByOrganizationId(organizationId).stream()
+        return jobRepository.findByOrganizationId(organizationId, fields).stream()
                 .map(JobDTO::fromEntity)
+                .map(fields::project)
                 .toList();
     }
 
@@ -121,7 +130,7 @@ public class JobService {
 
         // Validate organization exists
         if (!organizationService.organizationExists(jobDTO.organizationId())) {
-            throw new RuntimeException("Organization not found with ID: " + jobDTO.organizationId());
+            throw new ResourceNotFoundException("Organization not found with ID: " + jobDTO.organizationId());
         }
 
         // Validate creator exists if provided
@@ -142,6 +151,8 @@ public class JobService {
 
         // Save and return
         Job saved = jobRepository.save(job);
+        organizationVersions.bump(saved.getOrganizationId());
+        kanbanBoardCache.putJob(saved.getOrganizationId(), JobDTO.fromEntity(saved));
         logger.info("Job created with ID: {}", saved.getId());
 
         return JobDTO.fromEntity(saved);
@@ -155,7 +166,7 @@ public class JobService {
 
         // Check if job exists
         Job existing = jobRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + id));
 
         // Verify organization match (cannot move job to different organization)
         if (!existing.getOrganizationId().equals(jobDTO.organizationId())) {
@@ -173,6 +184,8 @@ public class JobService {
 
         // Save and return
         Job saved = jobRepository.update(updated);
+        organizationVersions.bump(existing.getOrganizationId());
+        kanbanBoardCache.putJob(existing.getOrganizationId(), JobDTO.fromEntity(saved));
         logger.info("Job updated: {}", saved.getId());
 
         return JobDTO.fromEntity(saved);
@@ -185,13 +198,15 @@ public class JobService {
         logger.info("Updating job status for ID: {} to: {}", id, status);
 
         Job existing = jobRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + id));
 
         Job updated = existing.toBuilder()
                 .status(JobStatus.fromString(status))
                 .build();
 
         Job saved = jobRepository.update(updated);
+        organizationVersions.bump(existing.getOrganizationId());
+        kanbanBoardCache.putJob(existing.getOrganizationId(), JobDTO.fromEntity(saved));
         logger.info("Job status updated: {}", saved.getId());
 
         return JobDTO.fromEntity(saved);
@@ -217,11 +232,12 @@ public class JobService {
     public void deleteJob(UUID id) {
         logger.info("Deleting job with ID: {}", id);
 
-        if (!jobRepository.existsById(id)) {
-            throw new RuntimeException("Job not found with ID: " + id);
-        }
+        Job existing = jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + id));
 
         jobRepository.deleteById(id);
+        organizationVersions.bump(existing.getOrganizationId());
+        kanbanBoardCache.invalidate(existing.getOrganizationId());
         logger.info("Job deleted: {}", id);
     }
 
@@ -244,7 +260,7 @@ public class JobService {
      */
     public boolean userHasAccessToJob(String userEmail, UUID jobId) {
         Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         return userService.hasAccessToOrganization(userEmail, job.getOrganizationId());
     }
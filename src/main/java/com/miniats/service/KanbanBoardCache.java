@@ -0,0 +1,338 @@
+package com.miniats.service;
+
+import com.miniats.domain.enums.ApplicationStatus;
+import com.miniats.domain.model.Application;
+import com.miniats.dto.ApplicationDTO;
+import com.miniats.dto.CandidateDTO;
+import com.miniats.dto.JobDTO;
+import com.miniats.repository.ApplicationRepository;
+import com.miniats.repository.CandidateRepository;
+import com.miniats.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Memoized organization-wide Kanban boards.
+ * A board is built from three queries (applications, candidates, jobs) joined in
+ * memory, then kept current by patches from the services instead of rebuilds.
+ * Boards are immutable; a patch swaps in a new board, so readers get the cached
+ * lists directly without copying. Eviction is LRU by organization, capped by the
+ * total number of cached cards, candidates and jobs.
+ * <p>
+ * One build runs per organization at a time; concurrent readers wait for it. Patches
+ * that arrive while it runs are recorded and replayed onto the built board before it
+ * is installed, so a busy organization still ends up cached.
+ */
+@Component
+public class KanbanBoardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(KanbanBoardCache.class);
+
+    private final ApplicationRepository applicationRepository;
+    private final CandidateRepository candidateRepository;
+    private final JobRepository jobRepository;
+    private final long ttlMillis;
+    private final long maxEntries;
+
+    // Access-ordered for LRU; guarded by "this"
+    private final LinkedHashMap<UUID, Board> boards = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedEntries;
+    // In-flight builds by organization; guarded by "this"
+    private final Map<UUID, PendingBuild> building = new HashMap<>();
+
+    public KanbanBoardCache(
+            ApplicationRepository applicationRepository,
+            CandidateRepository candidateRepository,
+            JobRepository jobRepository,
+            @Value("${kanban.board-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${kanban.board-cache.max-entries:200000}") long maxEntries
+    ) {
+        this.applicationRepository = applicationRepository;
+        this.candidateRepository = candidateRepository;
+        this.jobRepository = jobRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Board for an organization, built on first use
+     */
+    public Board getBoard(UUID organizationId) {
+        PendingBuild mine = new PendingBuild();
+        PendingBuild running;
+        synchronized (this) {
+            Board board = boards.get(organizationId);
+            if (board != null && !board.isExpired(ttlMillis)) {
+                return board;
+            }
+            running = building.putIfAbsent(organizationId, mine);
+        }
+        if (running != null) {
+            try {
+                return running.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        // Build outside the lock, then catch up on the patches it may have missed
+        Board built;
+        try {
+            built = build(organizationId);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                building.remove(organizationId, mine);
+            }
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+        Board current = built;
+        synchronized (this) {
+            building.remove(organizationId, mine);
+            for (Function<Board, Board> change : mine.patches) {
+                current = current != null ? change.apply(current) : null;
+            }
+            if (current != null && !mine.invalidated) {
+                put(organizationId, current);
+            } else {
+                // A patch needed data the build did not see, or the organization was
+                // invalidated meanwhile; serve the build once and rebuild on next read
+                current = built;
+            }
+        }
+        mine.result.complete(current);
+        return current;
+    }
+
+    /**
+     * Patch applications in a cached board (created, moved or edited)
+     */
+    public void putApplications(UUID organizationId, Collection<Application> applications) {
+        patch(organizationId, board -> board.withApplications(applications, List.of()));
+    }
+
+    /**
+     * Remove applications from a cached board
+     */
+    public void removeApplications(UUID organizationId, Collection<UUID> applicationIds) {
+        patch(organizationId, board -> board.withApplications(List.of(), applicationIds));
+    }
+
+    /**
+     * Patch a candidate's summary on every card that shows it
+     */
+    public void putCandidate(UUID organizationId, CandidateDTO candidate) {
+        patch(organizationId, board -> board.withCandidate(candidate));
+    }
+
+    /**
+     * Patch a job's summary on every card that shows it
+     */
+    public void putJob(UUID organizationId, JobDTO job) {
+        patch(organizationId, board -> board.withJob(job));
+    }
+
+    /**
+     * Drop an organization's board (next read rebuilds it)
+     */
+    public synchronized void invalidate(UUID organizationId) {
+        Board removed = boards.remove(organizationId);
+        if (removed != null) {
+            cachedEntries -= removed.weight();
+        }
+        PendingBuild pending = building.get(organizationId);
+        if (pending != null) {
+            pending.invalidated = true;
+        }
+    }
+
+    private synchronized void patch(UUID organizationId, Function<Board, Board> change) {
+        PendingBuild pending = building.get(organizationId);
+        if (pending != null) {
+            pending.patches.add(change);
+        }
+        Board board = boards.get(organizationId);
+        if (board == null) {
+            return;
+        }
+        Board patched = change.apply(board);
+        if (patched == null) {
+            // Patch needs data the board does not have; rebuild on next read
+            invalidate(organizationId);
+            return;
+        }
+        put(organizationId, patched);
+    }
+
+    private void put(UUID organizationId, Board board) {
+        Board previous = boards.put(organizationId, board);
+        cachedEntries += board.weight() - (previous != null ? previous.weight() : 0);
+
+        Iterator<Map.Entry<UUID, Board>> eldest = boards.entrySet().iterator();
+        while (cachedEntries > maxEntries && eldest.hasNext()) {
+            Map.Entry<UUID, Board> entry = eldest.next();
+            if (entry.getKey().equals(organizationId)) {
+                continue;
+            }
+            cachedEntries -= entry.getValue().weight();
+            eldest.remove();
+            logger.debug("Evicted Kanban board for organization: {}", entry.getKey());
+        }
+    }
+
+    private Board build(UUID organizationId) {
+        long start = System.nanoTime();
+        List<Application> applications = applicationRepository.findByOrganizationId(organizationId);
+        Map<UUID, CandidateDTO> candidates = candidateRepository.findByOrganizationId(organizationId).stream()
+                .map(CandidateDTO::fromEntity)
+                .collect(Collectors.toMap(CandidateDTO::id, Function.identity()));
+        Map<UUID, JobDTO> jobs = jobRepository.findByOrganizationId(organizationId).stream()
+                .map(JobDTO::fromEntity)
+                .collect(Collectors.toMap(JobDTO::id, Function.identity()));
+
+        Map<UUID, ApplicationDTO> cards = new LinkedHashMap<>();
+        for (Application application : applications) {
+            cards.put(application.getId(), ApplicationDTO.fromEntityEnriched(
+                    application, candidates.get(application.getCandidateId()), jobs.get(application.getJobId())));
+        }
+        Board board = new Board(System.currentTimeMillis(), candidates, jobs, cards);
+        logger.debug("Built Kanban board for organization: {} - {} applications in {} ms",
+                organizationId, board.size(), (System.nanoTime() - start) / 1_000_000);
+        return board;
+    }
+
+    /**
+     * Build in progress, with the patches and invalidation it must catch up on
+     */
+    private static final class PendingBuild {
+        private final CompletableFuture<Board> result = new CompletableFuture<>();
+        private final List<Function<Board, Board>> patches = new ArrayList<>();
+        private boolean invalidated;
+    }
+
+    /**
+     * Immutable enriched board of one organization
+     */
+    public static final class Board {
+        private final long builtAt;
+        private final Map<UUID, CandidateDTO> candidates;
+        private final Map<UUID, JobDTO> jobs;
+        private final Map<UUID, ApplicationDTO> cards;
+        private final List<ApplicationDTO> applications;
+        private final Map<ApplicationStatus, List<ApplicationDTO>> columns;
+
+        private Board(
+                long builtAt,
+                Map<UUID, CandidateDTO> candidates,
+                Map<UUID, JobDTO> jobs,
+                Map<UUID, ApplicationDTO> cards
+        ) {
+            this.builtAt = builtAt;
+            this.candidates = candidates;
+            this.jobs = jobs;
+            this.cards = cards;
+            this.applications = List.copyOf(cards.values());
+
+            Map<ApplicationStatus, List<ApplicationDTO>> grouped = new EnumMap<>(ApplicationStatus.class);
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                grouped.put(status, new ArrayList<>());
+            }
+            for (ApplicationDTO card : applications) {
+                grouped.get(ApplicationStatus.fromString(card.status())).add(card);
+            }
+            grouped.replaceAll((status, column) -> List.copyOf(column));
+            this.columns = Collections.unmodifiableMap(grouped);
+        }
+
+        /**
+         * All cards, in board order
+         */
+        public List<ApplicationDTO> getApplications() {
+            return applications;
+        }
+
+        /**
+         * Cards of one Kanban column
+         */
+        public List<ApplicationDTO> getColumn(ApplicationStatus status) {
+            return columns.get(status);
+        }
+
+        /**
+         * Cards of one job, in board order
+         */
+        public List<ApplicationDTO> getApplicationsForJob(UUID jobId) {
+            return applications.stream()
+                    .filter(card -> jobId.equals(card.jobId()))
+                    .toList();
+        }
+
+        public int size() {
+            return applications.size();
+        }
+
+        /**
+         * Entries held in memory: cards plus the candidates and jobs they are enriched from
+         */
+        long weight() {
+            return (long) cards.size() + candidates.size() + jobs.size();
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - builtAt > ttlMillis;
+        }
+
+        /**
+         * Copy with cards upserted and removed, or null if a card references
+         * a candidate or job the board does not know
+         */
+        Board withApplications(Collection<Application> upserts, Collection<UUID> removals) {
+            Map<UUID, ApplicationDTO> patched = new LinkedHashMap<>(cards);
+            removals.forEach(patched::remove);
+            for (Application application : upserts) {
+                CandidateDTO candidate = candidates.get(application.getCandidateId());
+                JobDTO job = jobs.get(application.getJobId());
+                if (candidate == null || job == null) {
+                    return null;
+                }
+                patched.put(application.getId(), ApplicationDTO.fromEntityEnriched(application, candidate, job));
+            }
+            return new Board(builtAt, candidates, jobs, patched);
+        }
+
+        Board withCandidate(CandidateDTO candidate) {
+            Map<UUID, CandidateDTO> patchedCandidates = new HashMap<>(candidates);
+            patchedCandidates.put(candidate.id(), candidate);
+            Map<UUID, ApplicationDTO> patched = new LinkedHashMap<>(cards);
+            patched.replaceAll((id, card) -> candidate.id().equals(card.candidateId())
+                    ? withSummaries(card, candidate, card.job())
+                    : card);
+            return new Board(builtAt, patchedCandidates, jobs, patched);
+        }
+
+        Board withJob(JobDTO job) {
+            Map<UUID, JobDTO> patchedJobs = new HashMap<>(jobs);
+            patchedJobs.put(job.id(), job);
+            Map<UUID, ApplicationDTO> patched = new LinkedHashMap<>(cards);
+            patched.replaceAll((id, card) -> job.id().equals(card.jobId())
+                    ? withSummaries(card, card.candidate(), job)
+                    : card);
+            return new Board(builtAt, candidates, patchedJobs, patched);
+        }
+
+        private static ApplicationDTO withSummaries(ApplicationDTO card, CandidateDTO candidate, JobDTO job) {
+            return new ApplicationDTO(
+                    card.id(), card.jobId(), card.candidateId(), card.status(), card.stageOrder(),
+                    card.appliedAt(), card.updatedAt(), card.notes(), candidate, job
+            );
+        }
+    }
+}
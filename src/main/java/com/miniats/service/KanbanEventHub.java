@@ -0,0 +1,462 @@
+package com.miniats.service;
+
+import com.miniats.domain.enums.ApplicationStatus;
+import com.miniats.domain.model.Application;
+import com.miniats.dto.KanbanEventDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out hub for real-time Kanban updates over Server-Sent Events.
+ * Publishing never blocks on clients: each subscriber has a bounded queue drained
+ * sequentially on a bounded dispatcher pool, with at most one drain per subscriber and
+ * at most max-sends-per-organization in progress per organization, so stalled clients
+ * of one organization cannot hold every dispatch thread. A subscriber whose queue fills
+ * up, whose send has been stuck longer than send-timeout-seconds, or whose drain the
+ * saturated dispatcher rejects, is disconnected so it reconnects and resumes from the
+ * per-organization replay buffer. A stuck send gives its slot back to the organization,
+ * up to max-stalled-per-organization stuck sends at a time. An organization's channel is dropped when its
+ * last subscriber leaves; event IDs come from one hub-wide sequence, so a resuming
+ * client notices events published while nobody was listening.
+ */
+@Component
+public class KanbanEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(KanbanEventHub.class);
+
+    private static final String RESYNC_EVENT = "resync";
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxSubscribersPerOrganization;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxSendsPerOrganization;
+    private final int maxStalledPerOrganization;
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    public KanbanEventHub(
+            @Value("${kanban.events.buffer-size:256}") int bufferSize,
+            @Value("${kanban.events.replay-size:1000}") int replaySize,
+            @Value("${kanban.events.max-subscribers-per-organization:200}") int maxSubscribersPerOrganization,
+            @Value("${kanban.events.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${kanban.events.heartbeat-seconds:20}") long heartbeatSeconds,
+            @Value("${kanban.events.send-timeout-seconds:10}") long sendTimeoutSeconds,
+            @Value("${kanban.events.dispatch-threads:16}") int dispatchThreads,
+            @Value("${kanban.events.dispatch-queue-size:10000}") int dispatchQueueSize,
+            @Value("${kanban.events.max-sends-per-organization:4}") int maxSendsPerOrganization,
+            @Value("${kanban.events.max-stalled-per-organization:4}") int maxStalledPerOrganization
+    ) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.maxSubscribersPerOrganization = maxSubscribersPerOrganization;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.sendTimeoutNanos = TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        this.maxSendsPerOrganization = Math.max(1, maxSendsPerOrganization);
+        this.maxStalledPerOrganization = maxStalledPerOrganization;
+        // Fixed size and bounded queue; idle threads time out
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(dispatchQueueSize));
+        this.dispatcher.allowCoreThreadTimeOut(true);
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor();
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Open a stream for an organization, optionally limited to one job.
+     * When lastEventId is given, missed events are replayed first; if they are no
+     * longer buffered a "resync" event tells the client to reload the board.
+     */
+    public SseEmitter subscribe(UUID organizationId, UUID jobId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Channel channel;
+        Subscriber subscriber;
+        do {
+            channel = channels.computeIfAbsent(organizationId, id -> new Channel(id, sequence.get()));
+            if (channel.subscribers.size() >= maxSubscribersPerOrganization) {
+                throw new IllegalStateException("Too many event streams open for organization: " + organizationId);
+            }
+            subscriber = new Subscriber(channel, emitter, jobId);
+            // A channel dropped by its last subscriber in the meantime is replaced
+        } while (!channel.attach(subscriber, lastEventId));
+
+        Subscriber attached = subscriber;
+        emitter.onCompletion(attached::detach);
+        emitter.onTimeout(attached::detach);
+        emitter.onError(e -> attached.detach());
+        logger.debug("Kanban stream opened for organization: {} (job: {}, lastEventId: {}) - {} subscribers",
+                organizationId, jobId, lastEventId, channel.subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Publish an application delta to every subscriber of the organization
+     */
+    public void publish(String type, UUID organizationId, Application application, ApplicationStatus previousStatus) {
+        while (true) {
+            Channel channel = channels.get(organizationId);
+            if (channel == null) {
+                // Nobody is listening; still use up an ID (atomically with channel creation)
+                // so a client resuming from before sees the gap and resyncs
+                channel = channels.compute(organizationId, (id, current) -> {
+                    if (current == null) {
+                        sequence.incrementAndGet();
+                    }
+                    return current;
+                });
+                if (channel == null) {
+                    return;
+                }
+            }
+            if (channel.publish(type, application, previousStatus)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Number of open streams for an organization
+     */
+    public int getSubscriberCount(UUID organizationId) {
+        Channel channel = channels.get(organizationId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    /**
+     * Events buffered for delivery across all open streams
+     */
+    public int getQueuedEvents() {
+        int queued = 0;
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                queued += subscriber.queue.size();
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Keep-alives for every stream; also drops streams stuck in a send
+     */
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                logger.warn("Dropping stalled Kanban stream for organization: {} (send blocked over {} s)",
+                        channel.organizationId, TimeUnit.NANOSECONDS.toSeconds(sendTimeoutNanos));
+                subscriber.close();
+                subscriber.abandonSendSlot();
+            } else {
+                subscriber.enqueue(SseEmitter.event().comment("keep-alive"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Event sequence, replay buffer and subscribers of one organization
+     */
+    private final class Channel {
+        private final UUID organizationId;
+        private final ArrayDeque<KanbanEventDTO> replay = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // Sends in progress, and drains waiting for one to finish (max-sends-per-organization)
+        private final AtomicInteger sending = new AtomicInteger();
+        // Sends stuck past send-timeout-seconds whose slot was given back
+        private final AtomicInteger stalled = new AtomicInteger();
+        private final Queue<Subscriber> waiting = new ConcurrentLinkedQueue<>();
+        // Newest event ID not in the replay buffer, and newest ID published here
+        private long evictedUpTo;
+        private long lastEventId;
+        private boolean removed;
+
+        Channel(UUID organizationId, long startAfter) {
+            this.organizationId = organizationId;
+            this.evictedUpTo = startAfter;
+            this.lastEventId = startAfter;
+        }
+
+        /**
+         * Sequencing, buffering and fan-out share one lock so a subscriber attaching
+         * mid-publish sees every event exactly once, in order.
+         * Returns false if the channel was already dropped.
+         */
+        synchronized boolean publish(String type, Application application, ApplicationStatus previousStatus) {
+            if (removed) {
+                return false;
+            }
+            lastEventId = sequence.incrementAndGet();
+            KanbanEventDTO event = new KanbanEventDTO(
+                    lastEventId,
+                    type,
+                    organizationId,
+                    application.getJobId(),
+                    application.getId(),
+                    application.getCandidateId(),
+                    application.getStatus() != null ? application.getStatus().name() : null,
+                    previousStatus != null ? previousStatus.name() : null,
+                    application.getStatus() != null ? application.getStatus().getStageOrder() : null,
+                    application.getNotes(),
+                    Instant.now()
+            );
+
+            replay.addLast(event);
+            if (replay.size() > replaySize) {
+                evictedUpTo = replay.removeFirst().eventId();
+            }
+            subscribers.forEach(subscriber -> subscriber.deliver(event));
+            return true;
+        }
+
+        /**
+         * Returns false if the channel was already dropped
+         */
+        synchronized boolean attach(Subscriber subscriber, Long resumeFrom) {
+            if (removed) {
+                return false;
+            }
+            subscribers.add(subscriber);
+            if (resumeFrom == null) {
+                return true;
+            }
+
+            if (resumeFrom > lastEventId || resumeFrom < evictedUpTo) {
+                // Unknown or evicted position (e.g. after a restart): client must reload
+                subscriber.enqueue(SseEmitter.event()
+                        .name(RESYNC_EVENT)
+                        .id(String.valueOf(lastEventId))
+                        .data(Map.of("reason", "Events since " + resumeFrom + " are no longer available"),
+                                MediaType.APPLICATION_JSON));
+                return true;
+            }
+            List<KanbanEventDTO> missed = replay.stream()
+                    .filter(event -> event.eventId() > resumeFrom)
+                    .toList();
+            missed.forEach(subscriber::deliver);
+            return true;
+        }
+
+        synchronized void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            if (!removed && subscribers.isEmpty()) {
+                removed = true;
+                channels.remove(organizationId, this);
+            }
+        }
+
+        /**
+         * Take a send slot, or park the subscriber until a slot is released (returns false)
+         */
+        boolean acquireSendSlot(Subscriber subscriber) {
+            if (tryAcquireSendSlot()) {
+                return true;
+            }
+            waiting.add(subscriber);
+            // A slot released before we were queued would not have woken us
+            if (tryAcquireSendSlot()) {
+                if (waiting.remove(subscriber)) {
+                    return true;
+                }
+                // Already woken by a release: that drain takes over
+                releaseSendSlot();
+            }
+            return false;
+        }
+
+        void releaseSendSlot() {
+            sending.decrementAndGet();
+            Subscriber next = waiting.poll();
+            if (next != null) {
+                next.dispatchDrain();
+            }
+        }
+
+        private boolean tryAcquireSendSlot() {
+            int current;
+            do {
+                current = sending.get();
+                if (current >= maxSendsPerOrganization) {
+                    return false;
+                }
+            } while (!sending.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    /**
+     * One open stream with its bounded outbound queue
+     */
+    private final class Subscriber {
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final UUID jobId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Whether the current drain's send slot was already given back (set by the heartbeat for a stuck send)
+        private final AtomicBoolean slotReturned = new AtomicBoolean();
+        private volatile long sendingSince;
+
+        Subscriber(Channel channel, SseEmitter emitter, UUID jobId) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.jobId = jobId;
+        }
+
+        void deliver(KanbanEventDTO event) {
+            if (jobId != null && !jobId.equals(event.jobId())) {
+                return;
+            }
+            enqueue(SseEmitter.event()
+                    .id(String.valueOf(event.eventId()))
+                    .name(event.type())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                logger.warn("Dropping slow Kanban stream for organization: {} ({} events buffered)",
+                        channel.organizationId, bufferSize);
+                close();
+                return;
+            }
+            // At most one drain per subscriber: while one is queued or sending, events wait in its queue
+            if (scheduled.compareAndSet(false, true)) {
+                dispatchDrain();
+            }
+        }
+
+        boolean isStalled(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since > sendTimeoutNanos;
+        }
+
+        private void drain() {
+            if (!channel.acquireSendSlot(this)) {
+                // Parked; the organization's next finished send dispatches this drain again
+                return;
+            }
+            slotReturned.set(false);
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    emitter.send(event);
+                    sendingSince = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Kanban stream closed by client: {}", e.getMessage());
+                close();
+            } finally {
+                sendingSince = 0;
+                if (slotReturned.compareAndSet(false, true)) {
+                    channel.releaseSendSlot();
+                } else {
+                    channel.stalled.decrementAndGet();
+                }
+                scheduled.set(false);
+                if (closed.get()) {
+                    // close() found this drain running and left completing the emitter to it
+                    if (scheduled.compareAndSet(false, true)) {
+                        emitter.complete();
+                    }
+                } else if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                    dispatchDrain();
+                }
+            }
+        }
+
+        void dispatchDrain() {
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Dispatcher saturated or shutting down; nothing is sending on this emitter
+                if (!dispatcher.isShutdown()) {
+                    logger.warn("Dropping Kanban stream for organization: {} (dispatcher queue full)",
+                            channel.organizationId);
+                }
+                closed.set(true);
+                queue.clear();
+                channel.remove(this);
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Give the slot of a stuck send back to the organization so its other streams keep
+         * flowing, unless max-stalled-per-organization stuck sends already did
+         */
+        void abandonSendSlot() {
+            if (channel.stalled.incrementAndGet() > maxStalledPerOrganization) {
+                channel.stalled.decrementAndGet();
+                return;
+            }
+            if (slotReturned.compareAndSet(false, true)) {
+                channel.releaseSendSlot();
+            } else {
+                // The send returned in the meantime and released the slot itself
+                channel.stalled.decrementAndGet();
+            }
+        }
+
+        void detach() {
+            closed.set(true);
+            queue.clear();
+            channel.remove(this);
+        }
+
+        /**
+         * Completing (not erroring) lets EventSource reconnect with Last-Event-ID.
+         * complete() waits for a send in progress on the same emitter, so when a drain is
+         * queued or sending, that drain completes the emitter once its send returns instead
+         * of a second thread blocking on the emitter.
+         */
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                channel.remove(this);
+                if (scheduled.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            }
+        }
+    }
+}
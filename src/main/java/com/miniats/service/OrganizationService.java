@@ -2,6 +2,7 @@ package com.miniats.service;
 
 import com.miniats.domain.model.Organization;
 import com.miniats.dto.OrganizationDTO;
+import com.miniats.exception.ResourceNotFoundException;
 import com.miniats.repository.OrganizationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,7 +34,7 @@ public class OrganizationService {
 
         return organizationRepository.findById(id)
                 .map(OrganizationDTO::fromEntity)
-                .orElseThrow(() -> new RuntimeException("Organization not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with ID: " + id));
     }
 
     /**
@@ -44,7 +45,7 @@ public class OrganizationService {
 
         return organizationRepository.findByName(name)
                 .map(OrganizationDTO::fromEntity)
-                .orElseThrow(() -> new RuntimeException("Organization not found with name: " + name));
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with name: " + name));
     }
 
     /**
@@ -89,7 +90,7 @@ public class OrganizationService {
 
         // Check if organization exists
         Organization existing = organizationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Organization not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with ID: " + id));
 
         // Check name uniqueness if changing name
         if (!existing.getName().equals(organizationDTO.name()) &&
@@ -116,7 +117,7 @@ public class OrganizationService {
         logger.info("Deleting organization with ID: {}", id);
 
         if (!organizationRepository.existsById(id)) {
-            throw new RuntimeException("Organization not found with ID: " + id);
+            throw new ResourceNotFoundException("Organization not found with ID: " + id);
         }
 
         organizationRepository.deleteById(id);
@@ -0,0 +1,84 @@
+package com.miniats.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-organization write version counters.
+ * Services bump the version after every successful write, so anything derived
+ * from an organization's data can be validated in O(1) without touching Supabase.
+ * Readers must capture the version before loading, so a concurrent write can only
+ * make the cached copy look older than it is, never newer.
+ * Counters are process-local; the epoch distinguishes restarts, and writes made
+ * outside this API (or by another instance) are not seen, so anything derived from
+ * a version must also expire (see {@link #tagSlot()}).
+ */
+@Component
+public class OrganizationVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final long tagTtlMillis;
+
+    public OrganizationVersions(@Value("${organization-versions.tag-ttl-seconds:60}") long tagTtlSeconds) {
+        this.tagTtlMillis = Math.max(1, tagTtlSeconds) * 1000;
+    }
+
+    /**
+     * Record a write to an organization's data
+     */
+    public long bump(UUID organizationId) {
+        if (organizationId == null) {
+            return 0;
+        }
+        return versions.computeIfAbsent(organizationId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Current version (0 until the first write since startup)
+     */
+    public long current(UUID organizationId) {
+        AtomicLong version = versions.get(organizationId);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Current version together with the process epoch
+     */
+    public Version get(UUID organizationId) {
+        return new Version(organizationId, epoch, current(organizationId));
+    }
+
+    /**
+     * Process start time; versions from different epochs are not comparable
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Current time slot of tag-ttl-seconds. Entity tags built from a version include
+     * it, so a tag that missed an outside write stops matching within one slot.
+     */
+    public long tagSlot() {
+        return System.currentTimeMillis() / tagTtlMillis;
+    }
+
+    /**
+     * Snapshot of an organization's data version
+     */
+    public record Version(UUID organizationId, long epoch, long version) {
+
+        /**
+         * Compact "epoch-version" form, e.g. for entity tags
+         */
+        public String token() {
+            return epoch + "-" + version;
+        }
+    }
+}
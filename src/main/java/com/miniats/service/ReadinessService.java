@@ -0,0 +1,190 @@
+package com.miniats.service;
+
+import com.miniats.dto.ReadinessDTO;
+import com.miniats.dto.ReadinessDTO.Check;
+import com.miniats.resilience.RollingCallStats;
+import com.miniats.resilience.SupabaseResilience;
+import com.miniats.security.JwtTokenValidator;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness built only from metrics the application already keeps (connection
+ * pool stats, recent Supabase call outcomes, JWKS fetch time, event queues, warm-up
+ * state), so probing makes no I/O and costs next to nothing.
+ * A DOWN check takes the instance out of rotation; a DEGRADED one is only reported.
+ */
+@Service
+public class ReadinessService {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final SupabaseResilience supabaseResilience;
+    private final JwtTokenValidator jwtTokenValidator;
+    private final KanbanEventHub kanbanEventHub;
+    private final CacheWarmupService cacheWarmupService;
+    private final double maxPoolUtilization;
+    private final int maxPendingConnections;
+    private final long windowMillis;
+    private final int minimumCalls;
+    private final double maxErrorRate;
+    private final long maxP95LatencyMillis;
+    private final Duration jwksMaxAge;
+    private final int maxQueuedEvents;
+
+    public ReadinessService(
+            PoolingHttpClientConnectionManager connectionManager,
+            SupabaseResilience supabaseResilience,
+            JwtTokenValidator jwtTokenValidator,
+            KanbanEventHub kanbanEventHub,
+            CacheWarmupService cacheWarmupService,
+            @Value("${readiness.pool.max-utilization:0.9}") double maxPoolUtilization,
+            @Value("${readiness.pool.max-pending:10}") int maxPendingConnections,
+            @Value("${readiness.supabase.window-seconds:60}") long windowSeconds,
+            @Value("${readiness.supabase.minimum-calls:20}") int minimumCalls,
+            @Value("${readiness.supabase.max-error-rate:0.5}") double maxErrorRate,
+            @Value("${readiness.supabase.max-p95-latency-ms:5000}") long maxP95LatencyMillis,
+            @Value("${readiness.jwks.max-age-hours:24}") long jwksMaxAgeHours,
+            @Value("${readiness.events.max-queued:10000}") int maxQueuedEvents
+    ) {
+        this.connectionManager = connectionManager;
+        this.supabaseResilience = supabaseResilience;
+        this.jwtTokenValidator = jwtTokenValidator;
+        this.kanbanEventHub = kanbanEventHub;
+        this.cacheWarmupService = cacheWarmupService;
+        this.maxPoolUtilization = maxPoolUtilization;
+        this.maxPendingConnections = maxPendingConnections;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.minimumCalls = minimumCalls;
+        this.maxErrorRate = maxErrorRate;
+        this.maxP95LatencyMillis = maxP95LatencyMillis;
+        this.jwksMaxAge = Duration.ofHours(jwksMaxAgeHours);
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    /**
+     * Evaluate every check
+     */
+    public ReadinessDTO check() {
+        Map<String, Check> checks = new LinkedHashMap<>();
+        checks.put("warmup", warmup());
+        checks.put("connectionPool", connectionPool());
+        checks.put("supabase", supabase());
+        checks.put("jwks", jwks());
+        checks.put("eventQueue", eventQueue());
+
+        List<String> reasons = new ArrayList<>();
+        String status = ReadinessDTO.UP;
+        for (Map.Entry<String, Check> entry : checks.entrySet()) {
+            Check check = entry.getValue();
+            if (ReadinessDTO.UP.equals(check.status())) {
+                continue;
+            }
+            reasons.add(entry.getKey() + ": " + check.reason());
+            if (ReadinessDTO.DOWN.equals(check.status()) || ReadinessDTO.DOWN.equals(status)) {
+                status = ReadinessDTO.DOWN;
+            } else {
+                status = ReadinessDTO.DEGRADED;
+            }
+        }
+        return new ReadinessDTO(!ReadinessDTO.DOWN.equals(status), status,
+                reasons.isEmpty() ? null : reasons, checks, Instant.now());
+    }
+
+    private Check warmup() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("warm", cacheWarmupService.isWarm());
+        if (cacheWarmupService.getCompletedAt() != null) {
+            metrics.put("completedAt", cacheWarmupService.getCompletedAt());
+        }
+        return cacheWarmupService.isWarm()
+                ? up(metrics)
+                : new Check(ReadinessDTO.DOWN, "cache warm-up in progress", metrics);
+    }
+
+    private Check connectionPool() {
+        PoolStats stats = connectionManager.getTotalStats();
+        double utilization = stats.getMax() == 0 ? 0 : (double) stats.getLeased() / stats.getMax();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("leased", stats.getLeased());
+        metrics.put("pending", stats.getPending());
+        metrics.put("available", stats.getAvailable());
+        metrics.put("max", stats.getMax());
+        metrics.put("utilization", round(utilization));
+        if (stats.getPending() > maxPendingConnections) {
+            return new Check(ReadinessDTO.DOWN, stats.getPending() + " requests waiting for a connection", metrics);
+        }
+        if (utilization >= maxPoolUtilization) {
+            return new Check(ReadinessDTO.DOWN, "connection pool " + Math.round(utilization * 100) + "% leased", metrics);
+        }
+        return up(metrics);
+    }
+
+    private Check supabase() {
+        RollingCallStats.Snapshot calls = supabaseResilience.getRecentCalls(windowMillis);
+        List<String> openCircuits = supabaseResilience.getOpenCircuits();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("windowSeconds", TimeUnit.MILLISECONDS.toSeconds(windowMillis));
+        metrics.put("calls", calls.calls());
+        metrics.put("errorRate", round(calls.errorRate()));
+        metrics.put("p50LatencyMs", calls.p50Millis());
+        metrics.put("p95LatencyMs", calls.p95Millis());
+        metrics.put("maxLatencyMs", calls.maxMillis());
+        metrics.put("openCircuits", openCircuits);
+        if (calls.calls() >= minimumCalls) {
+            if (calls.errorRate() >= maxErrorRate) {
+                return new Check(ReadinessDTO.DOWN, Math.round(calls.errorRate() * 100) + "% of recent calls failed", metrics);
+            }
+            if (calls.p95Millis() > maxP95LatencyMillis) {
+                return new Check(ReadinessDTO.DOWN, "p95 latency " + calls.p95Millis() + " ms", metrics);
+            }
+        }
+        if (!openCircuits.isEmpty()) {
+            return new Check(ReadinessDTO.DEGRADED, "circuit open for " + String.join(", ", openCircuits), metrics);
+        }
+        return up(metrics);
+    }
+
+    private Check jwks() {
+        Instant fetchedAt = jwtTokenValidator.getJwksFetchedAt();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (fetchedAt == null) {
+            // Not DOWN: the first token fetches them, and an instance out of rotation gets no tokens
+            return new Check(ReadinessDTO.DEGRADED, "signing keys not fetched yet", metrics);
+        }
+        metrics.put("fetchedAt", fetchedAt);
+        Duration age = Duration.between(fetchedAt, Instant.now());
+        metrics.put("ageSeconds", age.toSeconds());
+        if (age.compareTo(jwksMaxAge) > 0) {
+            // Still usable; an unknown key id triggers a refetch
+            return new Check(ReadinessDTO.DEGRADED, "signing keys fetched " + age.toHours() + " h ago", metrics);
+        }
+        return up(metrics);
+    }
+
+    private Check eventQueue() {
+        int queued = kanbanEventHub.getQueuedEvents();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("queuedEvents", queued);
+        return queued > maxQueuedEvents
+                ? new Check(ReadinessDTO.DEGRADED, queued + " Kanban events waiting for delivery", metrics)
+                : up(metrics);
+    }
+
+    private static Check up(Map<String, Object> metrics) {
+        return new Check(ReadinessDTO.UP, null, metrics);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
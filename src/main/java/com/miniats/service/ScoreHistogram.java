@@ -0,0 +1,92 @@
+package com.miniats.service;
+
+import com.miniats.dto.JobScorecardRankingDTO.ScoreStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fixed-bin histogram for bounded scores.
+ * Scores are recorded as integers in a fixed scale (1 for whole points,
+ * 10 for one decimal), so count, mean, min/max and exact percentiles come
+ * from one pass and one small array, with no sorting or boxing.
+ */
+final class ScoreHistogram {
+
+    private static final int MIN_POINTS = 1;
+    private static final int MAX_POINTS = 5;
+
+    private final int scale;
+    private final long[] bins;
+    private long count;
+    private long sum;
+
+    /**
+     * @param scale bins per whole point (1 or 10)
+     */
+    ScoreHistogram(int scale) {
+        this.scale = scale;
+        this.bins = new long[MAX_POINTS * scale + 1];
+    }
+
+    /**
+     * Record a score already multiplied by the scale; out-of-range values are ignored
+     */
+    void add(int scaledScore) {
+        if (scaledScore < MIN_POINTS * scale || scaledScore >= bins.length) {
+            return;
+        }
+        bins[scaledScore]++;
+        count++;
+        sum += scaledScore;
+    }
+
+    ScoreStats toStats() {
+        if (count == 0) {
+            return new ScoreStats(0, null, null, null, null, null, null, null, distribution());
+        }
+        return new ScoreStats(
+                count,
+                Math.round(sum * 100.0 / (count * scale)) / 100.0,
+                unscale(percentile(0)),
+                unscale(percentile(100)),
+                unscale(percentile(25)),
+                unscale(percentile(50)),
+                unscale(percentile(75)),
+                unscale(percentile(90)),
+                distribution()
+        );
+    }
+
+    /**
+     * Nearest-rank percentile: smallest score with at least p% of scores at or below it
+     */
+    private int percentile(int p) {
+        long rank = Math.max(1, (p * count + 99) / 100);
+        long seen = 0;
+        for (int score = 0; score < bins.length; score++) {
+            seen += bins[score];
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return bins.length - 1;
+    }
+
+    private Map<Integer, Long> distribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int points = MIN_POINTS; points <= MAX_POINTS; points++) {
+            long inBucket = 0;
+            int upper = Math.min(bins.length, (points + 1) * scale);
+            for (int score = points * scale; score < upper; score++) {
+                inBucket += bins[score];
+            }
+            distribution.put(points, inBucket);
+        }
+        return distribution;
+    }
+
+    private double unscale(int scaledScore) {
+        return (double) scaledScore / scale;
+    }
+}
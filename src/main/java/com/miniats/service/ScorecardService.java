@@ -1,14 +1,27 @@
 package com.miniats.service;
 
 import com.miniats.domain.model.Scorecard;
+import com.miniats.dto.JobScorecardRankingDTO;
+import com.miniats.dto.JobScorecardRankingDTO.RankedCandidate;
 import com.miniats.dto.ScorecardDTO;
 import com.miniats.exception.ResourceNotFoundException;
+import com.miniats.repository.JobRepository;
 import com.miniats.repository.ScorecardRepository;
+import com.miniats.repository.ScorecardRepository.PipelineScorecard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Service for managing scorecards.
@@ -16,15 +29,39 @@ import java.util.UUID;
 @Service
 public class ScorecardService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ScorecardService.class);
+
+    // Highest score first (NO_SCORE is -1, so unscored sort last), then by name
+    private static final Comparator<PipelineScorecard> BY_SCORE = Comparator
+            .comparingInt(ScorecardService::overallScoreTenths).reversed()
+            .thenComparing(PipelineScorecard::candidateName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
     private final ScorecardRepository scorecardRepository;
+    private final JobRepository jobRepository;
     private final ActivityService activityService;
+    private final OrganizationVersions organizationVersions;
+    private final Map<UUID, CachedRanking> rankingCache;
+    private final long rankingTtlMillis;
 
     public ScorecardService(
             ScorecardRepository scorecardRepository,
-            ActivityService activityService
+            JobRepository jobRepository,
+            ActivityService activityService,
+            OrganizationVersions organizationVersions,
+            @Value("${scorecards.ranking-cache.max-jobs:500}") int maxCachedJobs,
+            @Value("${scorecards.ranking-cache.ttl-seconds:300}") long rankingTtlSeconds
     ) {
         this.scorecardRepository = scorecardRepository;
+        this.jobRepository = jobRepository;
         this.activityService = activityService;
+        this.organizationVersions = organizationVersions;
+        this.rankingTtlMillis = rankingTtlSeconds * 1000;
+        this.rankingCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedRanking> eldest) {
+                return size() > maxCachedJobs;
+            }
+        };
     }
 
     /**
@@ -58,6 +95,7 @@ public class ScorecardService {
                     .build();
 
             scorecard = scorecardRepository.update(scorecard);
+            organizationVersions.bump(scorecardDTO.organizationId());
 
             // Log activity
             activityService.logActivity(
@@ -83,6 +121,7 @@ public class ScorecardService {
                     .build();
 
             scorecard = scorecardRepository.create(scorecard);
+            organizationVersions.bump(scorecardDTO.organizationId());
 
             // Log activity
             activityService.logActivity(
@@ -96,13 +135,108 @@ public class ScorecardService {
         return ScorecardDTO.fromEntity(scorecard);
     }
 
+    /**
+     * Rank a job's pipeline by overall score, with per-dimension statistics.
+     * One query for the pipeline and its scorecards; the result is cached until
+     * the organization's next write or the TTL (writes made outside this instance).
+     */
+    public JobScorecardRankingDTO getJobRanking(UUID jobId) {
+        CachedRanking cached;
+        synchronized (rankingCache) {
+            cached = rankingCache.get(jobId);
+        }
+        if (cached != null && organizationVersions.current(cached.organizationId()) == cached.version()
+                && System.currentTimeMillis() - cached.computedAt() < rankingTtlMillis) {
+            return cached.ranking();
+        }
+
+        UUID organizationId = cached != null
+                ? cached.organizationId()
+                : jobRepository.findById(jobId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId))
+                        .getOrganizationId();
+        long version = organizationVersions.current(organizationId);
+
+        JobScorecardRankingDTO ranking = rank(jobId, scorecardRepository.findPipelineScorecardsByJobId(jobId));
+        synchronized (rankingCache) {
+            rankingCache.put(jobId, new CachedRanking(organizationId, version, System.currentTimeMillis(), ranking));
+        }
+        logger.debug("Computed scorecard ranking for job: {} - {} of {} candidates scored",
+                jobId, ranking.scoredCount(), ranking.pipelineSize());
+        return ranking;
+    }
+
+    private JobScorecardRankingDTO rank(UUID jobId, List<PipelineScorecard> pipeline) {
+        ScoreHistogram overall = new ScoreHistogram(10);
+        Map<String, ScoreHistogram> dimensions = new LinkedHashMap<>();
+        Map<String, Function<Scorecard, Integer>> extractors = new LinkedHashMap<>();
+        extractors.put("technicalSkills", Scorecard::getTechnicalSkills);
+        extractors.put("communication", Scorecard::getCommunication);
+        extractors.put("culturalFit", Scorecard::getCulturalFit);
+        extractors.put("experienceLevel", Scorecard::getExperienceLevel);
+        extractors.put("problemSolving", Scorecard::getProblemSolving);
+        extractors.keySet().forEach(name -> dimensions.put(name, new ScoreHistogram(1)));
+
+        List<PipelineScorecard> sorted = new ArrayList<>(pipeline);
+        sorted.sort(BY_SCORE);
+
+        List<RankedCandidate> ranked = new ArrayList<>(sorted.size());
+        int scored = 0;
+        int previousTenths = Scorecard.NO_SCORE;
+        Integer rank = null;
+        for (int i = 0; i < sorted.size(); i++) {
+            PipelineScorecard entry = sorted.get(i);
+            Scorecard scorecard = entry.scorecard();
+            int tenths = scorecard != null ? scorecard.getOverallScoreTenths() : Scorecard.NO_SCORE;
+            if (tenths != Scorecard.NO_SCORE) {
+                scored++;
+                overall.add(tenths);
+                extractors.forEach((name, extractor) -> {
+                    Integer value = extractor.apply(scorecard);
+                    if (value != null) {
+                        dimensions.get(name).add(value);
+                    }
+                });
+                // Competition ranking: equal scores share a rank (1, 2, 2, 4)
+                rank = tenths == previousTenths ? rank : Integer.valueOf(i + 1);
+                previousTenths = tenths;
+            } else {
+                rank = null;
+            }
+            ranked.add(new RankedCandidate(
+                    rank,
+                    entry.applicationId(),
+                    entry.candidateId(),
+                    entry.candidateName(),
+                    entry.status(),
+                    scorecard != null ? scorecard.getOverallScore() : null,
+                    scorecard != null ? scorecard.getTechnicalSkills() : null,
+                    scorecard != null ? scorecard.getCommunication() : null,
+                    scorecard != null ? scorecard.getCulturalFit() : null,
+                    scorecard != null ? scorecard.getExperienceLevel() : null,
+                    scorecard != null ? scorecard.getProblemSolving() : null
+            ));
+        }
+
+        Map<String, JobScorecardRankingDTO.ScoreStats> dimensionStats = new LinkedHashMap<>();
+        dimensions.forEach((name, histogram) -> dimensionStats.put(name, histogram.toStats()));
+        return new JobScorecardRankingDTO(
+                jobId, pipeline.size(), scored, List.copyOf(ranked), overall.toStats(), dimensionStats);
+    }
+
+    private static int overallScoreTenths(PipelineScorecard entry) {
+        return entry.scorecard() != null ? entry.scorecard().getOverallScoreTenths() : Scorecard.NO_SCORE;
+    }
+
     /**
      * Delete scorecard for a candidate
      */
     public void deleteScorecard(UUID candidateId) {
-        if (!scorecardRepository.existsByCandidateId(candidateId)) {
-            throw new ResourceNotFoundException("Scorecard not found for candidate: " + candidateId);
-        }
+        Scorecard existing = scorecardRepository.findByCandidateId(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Scorecard not found for candidate: " + candidateId));
         scorecardRepository.deleteByCandidateId(candidateId);
+        organizationVersions.bump(existing.getOrganizationId());
     }
-}
\ No newline at end of file
+
+    private record CachedRanking(UUID organizationId, long version, long computedAt, JobScorecardRankingDTO ranking) {}
+}
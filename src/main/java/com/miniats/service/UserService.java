@@ -3,6 +3,8 @@ package com.miniats.service;
 import com.miniats.domain.enums.UserRole;
 import com.miniats.domain.model.User;
 import com.miniats.dto.UserDTO;
+import com.miniats.exception.RepositoryException;
+import com.miniats.exception.ResourceNotFoundException;
 import com.miniats.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +46,7 @@ public class UserService {
 
         return userRepository.findById(id)
                 .map(UserDTO::fromEntity)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
     }
 
     /**
@@ -55,7 +57,7 @@ public class UserService {
 
         return userRepository.findByEmail(email)
                 .map(UserDTO::fromEntity)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
 
     /**
@@ -109,7 +111,7 @@ public class UserService {
         // 2. Validate organization exists
         if (!organizationService.organizationExists(userDTO.getOrganizationId())) {
             logger.error("❌ Organization not found: {}", userDTO.getOrganizationId());
-            throw new RuntimeException("Organization not found with ID: " + userDTO.getOrganizationId());
+            throw new ResourceNotFoundException("Organization not found with ID: " + userDTO.getOrganizationId());
         }
 
         // 3. Validate password is provided
@@ -156,6 +158,9 @@ public class UserService {
             } catch (Exception deleteError) {
                 logger.error("❌ Failed to delete auth user during rollback: {}", deleteError.getMessage());
             }
+            if (e instanceof RepositoryException repositoryException) {
+                throw repositoryException;
+            }
             throw new RuntimeException("Failed to create user in database: " + e.getMessage(), e);
         }
     }
@@ -186,7 +191,7 @@ public class UserService {
 
         // Check if user exists
         User existing = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
 
         // Check email uniqueness if changing email
         if (!existing.getEmail().equals(userDTO.getEmail()) &&
@@ -215,7 +220,7 @@ public class UserService {
         logger.info("Deleting user with ID: {}", id);
 
         if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found with ID: " + id);
+            throw new ResourceNotFoundException("User not found with ID: " + id);
         }
 
         userRepository.deleteById(id);
@@ -247,7 +252,7 @@ public class UserService {
     public UUID getOrganizationIdForUser(String email) {
         return userRepository.findByEmail(email)
                 .map(User::getOrganizationId)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
 
     /**
@@ -256,7 +261,7 @@ public class UserService {
      */
     public boolean hasAccessToOrganization(String email, UUID organizationId) {
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         // Admins have access to all organizations
         if (user.isAdmin()) {
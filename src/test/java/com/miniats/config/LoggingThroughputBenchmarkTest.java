@@ -0,0 +1,137 @@
+package com.miniats.config;
+
+import com.miniats.MiniAtsApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Request throughput with the default (DEBUG, sampled) and prod log settings.
+ * Boots the application twice in-process and drives GET /api/health, which runs the
+ * full security filter chain without touching Supabase. Results are printed, not asserted.
+ * <pre>
+ * mvn test -Dtest=LoggingThroughputBenchmarkTest -Dbenchmark=true
+ *     [-Dbenchmark.threads=8 -Dbenchmark.seconds=10 -Dbenchmark.rounds=3]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoggingThroughputBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup-seconds", 5);
+    private static final int MEASURED_SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 3);
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void defaultVersusProdLogging() throws Exception {
+        // Alternate the profiles and keep the best run of each, so JIT warm-up of the
+        // first boot does not favour the second profile
+        Result debug = null;
+        Result prod = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            debug = best(debug, run("default"));
+            prod = best(prod, run("prod"));
+        }
+
+        System.out.printf("GET /api/health, %d threads, %d s (after %d s warm-up), best of %d:%n",
+                THREADS, MEASURED_SECONDS, WARMUP_SECONDS, ROUNDS);
+        System.out.printf("  default (DEBUG, sampled): %.0f req/s, %.2f log lines/req%n", debug.requestsPerSecond(), debug.linesPerRequest());
+        System.out.printf("  prod:                     %.0f req/s, %.2f log lines/req%n", prod.requestsPerSecond(), prod.linesPerRequest());
+    }
+
+    private Result run(String profile) throws Exception {
+        Path logFile = Files.createTempFile("mini-ats-benchmark-" + profile, ".log");
+        // Command-line arguments, so they take precedence over application.yml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MiniAtsApplication.class)
+                .profiles(profile)
+                .run(
+                        "--server.port=0",
+                        "--logging.file.name=" + logFile,
+                        // Nothing listens here; the health endpoint never calls it
+                        "--SUPABASE_URL=http://localhost:9",
+                        "--SUPABASE_ANON_KEY=benchmark",
+                        "--SUPABASE_SERVICE_ROLE_KEY=benchmark",
+                        "--SUPABASE_JWT_JWKS_URL=http://localhost:9/jwks",
+                        "--rate-limit.enabled=false",
+                        "--warmup.enabled=false"
+                );
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/health")).build();
+
+            drive(request, WARMUP_SECONDS);
+            long linesBefore = lines(logFile);
+            long requests = drive(request, MEASURED_SECONDS);
+            // Let the async appender drain before counting
+            Thread.sleep(500);
+            long lines = lines(logFile) - linesBefore;
+            return new Result(requests / (double) MEASURED_SECONDS, lines / (double) requests);
+        } finally {
+            context.close();
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    /**
+     * Send requests from THREADS threads for the given time; returns the number of 200 responses
+     */
+    private long drive(HttpRequest request, int seconds) throws Exception {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> {
+                    long ok = 0;
+                    while (System.nanoTime() < end) {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        ok++;
+                    }
+                    return ok;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> worker : workers) {
+                total += worker.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Result best(Result a, Result b) {
+        return a == null || b.requestsPerSecond() > a.requestsPerSecond() ? b : a;
+    }
+
+    private static long lines(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.count();
+        }
+    }
+
+    private record Result(double requestsPerSecond, double linesPerRequest) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.miniats.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fixed-point overall score: same rounding as the BigDecimal average it replaced.
+ * The construction benchmark (1M scorecards; timings are printed, not asserted) only
+ * runs on request:
+ * <pre>
+ * mvn test -Dtest=ScorecardOverallScoreTest -Dbenchmark=true
+ * </pre>
+ */
+class ScorecardOverallScoreTest {
+
+    private static final UUID CANDIDATE_ID = UUID.randomUUID();
+    private static final UUID ORGANIZATION_ID = UUID.randomUUID();
+    private static final int BENCHMARK_SIZE = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Test
+    void matchesBigDecimalHalfUpForEveryCombination() {
+        // Each category unscored (null) or 1-5: 6^5 combinations
+        Integer[] values = {null, 1, 2, 3, 4, 5};
+        for (Integer tech : values) {
+            for (Integer comm : values) {
+                for (Integer culture : values) {
+                    for (Integer exp : values) {
+                        for (Integer problem : values) {
+                            Scorecard scorecard = scorecard(tech, comm, culture, exp, problem);
+                            assertThat(scorecard.getOverallScore())
+                                    .as("%s %s %s %s %s", tech, comm, culture, exp, problem)
+                                    .isEqualTo(bigDecimalAverage(tech, comm, culture, exp, problem));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void unscoredHasNoOverallScore() {
+        Scorecard scorecard = scorecard(null, null, null, null, null);
+        assertThat(scorecard.getOverallScoreTenths()).isEqualTo(Scorecard.NO_SCORE);
+        assertThat(scorecard.getOverallScore()).isNull();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void constructionBenchmark() {
+        Integer[][] inputs = randomInputs(BENCHMARK_SIZE);
+
+        long fixedPointNanos = Long.MAX_VALUE;
+        long bigDecimalNanos = Long.MAX_VALUE;
+        long fixedPointSum = 0;
+        long bigDecimalSum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            fixedPointSum = 0;
+            for (Integer[] in : inputs) {
+                fixedPointSum += scorecard(in[0], in[1], in[2], in[3], in[4]).getOverallScoreTenths();
+            }
+            long fixedPoint = System.nanoTime() - start;
+
+            // Previous implementation: the same scorecard plus a BigDecimal average per instance
+            start = System.nanoTime();
+            bigDecimalSum = 0;
+            for (Integer[] in : inputs) {
+                scorecard(in[0], in[1], in[2], in[3], in[4]);
+                bigDecimalSum += bigDecimalAverage(in[0], in[1], in[2], in[3], in[4]).unscaledValue().longValue();
+            }
+            long bigDecimal = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                fixedPointNanos = Math.min(fixedPointNanos, fixedPoint);
+                bigDecimalNanos = Math.min(bigDecimalNanos, bigDecimal);
+            }
+        }
+
+        assertThat(fixedPointSum).isEqualTo(bigDecimalSum);
+        System.out.printf("Scorecard construction, %d instances (best of %d): fixed-point %.1f M/s, BigDecimal %.1f M/s%n",
+                BENCHMARK_SIZE, MEASURED_ROUNDS,
+                BENCHMARK_SIZE * 1000.0 / fixedPointNanos, BENCHMARK_SIZE * 1000.0 / bigDecimalNanos);
+    }
+
+    private static Scorecard scorecard(Integer tech, Integer comm, Integer culture, Integer exp, Integer problem) {
+        return Scorecard.builder()
+                .candidateId(CANDIDATE_ID)
+                .organizationId(ORGANIZATION_ID)
+                .technicalSkills(tech)
+                .communication(comm)
+                .culturalFit(culture)
+                .experienceLevel(exp)
+                .problemSolving(problem)
+                .build();
+    }
+
+    /**
+     * The calculation Scorecard used before fixed-point tenths
+     */
+    private static BigDecimal bigDecimalAverage(Integer... scores) {
+        int count = 0;
+        int sum = 0;
+        for (Integer score : scores) {
+            if (score != null) {
+                sum += score;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 1, RoundingMode.HALF_UP);
+    }
+
+    private static Integer[][] randomInputs(int size) {
+        Random random = new Random(42);
+        Integer[][] inputs = new Integer[size][5];
+        for (Integer[] in : inputs) {
+            for (int i = 0; i < in.length; i++) {
+                in[i] = 1 + random.nextInt(5);
+            }
+        }
+        return inputs;
+    }
+}
@@ -0,0 +1,219 @@
+package com.miniats.resilience;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniats.config.SupabaseConfig;
+import com.miniats.exception.PermanentRepositoryException;
+import com.miniats.exception.ServiceUnavailableException;
+import com.miniats.exception.TransientRepositoryException;
+import com.miniats.repository.impl.BaseSupabaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Breaker, bulkhead and retry behaviour of repository calls, against a
+ * fault-injecting stand-in for PostgREST (MockRestServiceServer)
+ */
+class SupabaseResilienceTest {
+
+    private static final String SUPABASE_URL = "http://supabase.test";
+    private static final String TABLE_URL = SUPABASE_URL + "/rest/v1/widgets";
+    private static final String ROWS = "[{\"id\":1}]";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+
+    @Test
+    void breakerOpensThenHalfOpensThenCloses() throws InterruptedException {
+        // Window of 4 calls, opens at 50% failures, 1 s open, 2 trial calls
+        SupabaseResilience resilience = resilience(1, 10, 1);
+        WidgetRepository repository = new WidgetRepository(restTemplate, resilience);
+
+        server.expect(times(2), requestTo(TABLE_URL + "?select=*")).andRespond(withSuccess(ROWS, MediaType.APPLICATION_JSON));
+        server.expect(times(2), requestTo(TABLE_URL + "?select=*")).andRespond(withServerError());
+        repository.findAll();
+        repository.findAll();
+        assertThatThrownBy(repository::findAll).isInstanceOf(TransientRepositoryException.class);
+        assertThatThrownBy(repository::findAll).isInstanceOf(TransientRepositoryException.class);
+        assertThat(state(resilience)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(resilience.getOpenCircuits()).containsExactly("widgets");
+
+        // Open: rejected without reaching the table
+        assertThatThrownBy(repository::findAll)
+                .isInstanceOf(ServiceUnavailableException.class)
+                .satisfies(e -> assertThat(((ServiceUnavailableException) e).getRetryAfterSeconds()).isBetween(1L, 2L));
+        server.verify();
+
+        // Half-open after the open period: a failed trial opens it again
+        Thread.sleep(1100);
+        server.reset();
+        server.expect(once(), requestTo(TABLE_URL + "?select=*")).andRespond(withServerError());
+        assertThatThrownBy(repository::findAll).isInstanceOf(TransientRepositoryException.class);
+        assertThat(state(resilience)).isEqualTo(CircuitBreaker.State.OPEN);
+        server.verify();
+
+        // Both trials succeed: closed again
+        Thread.sleep(1100);
+        server.reset();
+        server.expect(times(2), requestTo(TABLE_URL + "?select=*")).andRespond(withSuccess(ROWS, MediaType.APPLICATION_JSON));
+        repository.findAll();
+        assertThat(state(resilience)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        repository.findAll();
+        assertThat(state(resilience)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(resilience.getMetrics().get("widgets")).containsEntry("breakerOpened", 2L);
+        server.verify();
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondTheConcurrencyLimit() throws Exception {
+        SupabaseResilience resilience = resilience(1, 1, 1);
+        WidgetRepository repository = new WidgetRepository(restTemplate, resilience);
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        server.expect(once(), requestTo(TABLE_URL + "?select=*")).andRespond(request -> {
+            inCall.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess(ROWS, MediaType.APPLICATION_JSON).createResponse(request);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Map<String, Object>>> slow = executor.submit(repository::findAll);
+            assertThat(inCall.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(repository::findAll)
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("too many concurrent calls");
+            assertThat(resilience.getMetrics().get("widgets"))
+                    .containsEntry("bulkheadRejected", 1L)
+                    .containsEntry("inFlight", 1);
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        // A rejected call is not a table failure
+        assertThat(state(resilience)).isEqualTo(CircuitBreaker.State.CLOSED);
+        server.verify();
+    }
+
+    @Test
+    void readsAreRetriedOnTransientFailures() {
+        SupabaseResilience resilience = resilience(3, 10, 30);
+        WidgetRepository repository = new WidgetRepository(restTemplate, resilience);
+
+        server.expect(once(), requestTo(TABLE_URL + "?select=*")).andRespond(withServerError());
+        server.expect(once(), requestTo(TABLE_URL + "?select=*")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(once(), requestTo(TABLE_URL + "?select=*")).andRespond(withSuccess(ROWS, MediaType.APPLICATION_JSON));
+
+        assertThat(repository.findAll()).hasSize(1);
+        assertThat(resilience.getMetrics().get("widgets")).containsEntry("retries", 2L);
+        server.verify();
+    }
+
+    @Test
+    void writesAreNeverRetried() {
+        SupabaseResilience resilience = resilience(3, 10, 30);
+        WidgetRepository repository = new WidgetRepository(restTemplate, resilience);
+
+        server.expect(once(), requestTo(TABLE_URL)).andExpect(method(HttpMethod.POST)).andRespond(withServerError());
+        server.expect(once(), requestTo(TABLE_URL + "?id=eq.1")).andExpect(method(HttpMethod.PATCH)).andRespond(withServerError());
+
+        assertThatThrownBy(() -> repository.insert(Map.of("name", "a"))).isInstanceOf(TransientRepositoryException.class);
+        assertThatThrownBy(() -> repository.update(Map.of("name", "b"))).isInstanceOf(TransientRepositoryException.class);
+        assertThat(resilience.getMetrics().get("widgets")).containsEntry("retries", 0L);
+        server.verify();
+    }
+
+    @Test
+    void clientErrorsAreNeitherRetriedNorCountedAsFailures() {
+        SupabaseResilience resilience = resilience(3, 10, 30);
+        WidgetRepository repository = new WidgetRepository(restTemplate, resilience);
+
+        server.expect(times(4), requestTo(TABLE_URL + "?select=*")).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(repository::findAll).isInstanceOf(PermanentRepositoryException.class);
+        }
+        assertThat(resilience.getMetrics().get("widgets"))
+                .containsEntry("retries", 0L)
+                .containsEntry("failures", 0L)
+                .containsEntry("state", CircuitBreaker.State.CLOSED);
+        server.verify();
+    }
+
+    /**
+     * Breaker window of 4 calls (all required), 50% threshold, 2 half-open trials,
+     * 50 ms bulkhead wait, 1-5 ms backoff
+     */
+    private static SupabaseResilience resilience(int maxAttempts, int maxConcurrentCalls, long openSeconds) {
+        return new SupabaseResilience(4, 4, 0.5, openSeconds, 2, maxConcurrentCalls, 50, maxAttempts, 1, 5);
+    }
+
+    private static CircuitBreaker.State state(SupabaseResilience resilience) {
+        return (CircuitBreaker.State) resilience.getMetrics().get("widgets").get("state");
+    }
+
+    /**
+     * Minimal repository over a "widgets" table
+     */
+    private static final class WidgetRepository extends BaseSupabaseRepository {
+
+        WidgetRepository(RestTemplate restTemplate, SupabaseResilience resilience) {
+            super(restTemplate, supabaseConfig(), new ObjectMapper(), resilience);
+        }
+
+        @Override
+        protected String getTableName() {
+            return "widgets";
+        }
+
+        List<Map<String, Object>> findAll() {
+            return executeGet(buildTableUrl("select=*"), new TypeReference<>() {});
+        }
+
+        Map<?, ?> insert(Map<String, Object> row) {
+            return executePost(buildTableUrl(), row, Map.class);
+        }
+
+        Map<?, ?> update(Map<String, Object> row) {
+            return executePatch(buildTableUrl("id=eq.1"), row, Map.class);
+        }
+
+        private static SupabaseConfig supabaseConfig() {
+            SupabaseConfig config = new SupabaseConfig();
+            ReflectionTestUtils.setField(config, "supabaseUrl", SUPABASE_URL);
+            ReflectionTestUtils.setField(config, "supabaseServiceRoleKey", "service-role-key");
+            return config;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.miniats.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.miniats.resilience.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replay, key reuse, concurrent duplicates and failed originals, through the filter
+ * with an in-memory {@link IdempotencyStore} and a chain that counts executions
+ */
+class IdempotencyFilterTest {
+
+    private static final String USER = "recruiter@example.com";
+    private static final String BODY = "{\"fullName\":\"Anna Svensson\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    // 24 h TTL, 1000 entries, duplicates wait up to 5 s, 1 KB bodies, not persisted
+    private final IdempotencyStore store = new IdempotencyStore(objectMapper, 24, 1000, 5, 1024, "");
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, objectMapper);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(store, "shutdown");
+    }
+
+    @Test
+    void retryGetsTheStoredResponseWithoutExecutingAgain() throws Exception {
+        MockHttpServletResponse first = post("key-1", BODY, respond(201));
+        MockHttpServletResponse retry = post("key-1", BODY, respond(201));
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo(first.getHeader(HttpHeaders.LOCATION));
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).contains("Anna Svensson");
+    }
+
+    @Test
+    void keyReusedForADifferentBodyIsRejected() throws Exception {
+        post("key-1", BODY, respond(201));
+        MockHttpServletResponse reused = post("key-1", "{\"fullName\":\"Someone Else\"}", respond(201));
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString()).contains("already used for a different request");
+    }
+
+    @Test
+    void concurrentDuplicatesExecuteOnce() throws Exception {
+        int duplicates = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(201).doFilter(request, response);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < duplicates; i++) {
+                responses.add(executor.submit(() -> post("key-1", BODY, slow)));
+            }
+            // Let the duplicates queue up behind the original before it completes
+            Thread.sleep(200);
+            release.countDown();
+
+            int replayed = 0;
+            for (Future<MockHttpServletResponse> future : responses) {
+                MockHttpServletResponse response = future.get(10, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isEqualTo(201);
+                assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo("/candidates/1");
+                if ("true".equals(response.getHeader(IdempotencyFilter.REPLAYED_HEADER))) {
+                    replayed++;
+                }
+            }
+            assertThat(executions).hasValue(1);
+            assertThat(replayed).isEqualTo(duplicates - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void serverErrorReleasesTheKeyForARetry() throws Exception {
+        MockHttpServletResponse failed = post("key-1", BODY, respond(503));
+        MockHttpServletResponse retry = post("key-1", BODY, respond(201));
+
+        assertThat(failed.getStatus()).isEqualTo(503);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void bufferedBodyCanBeReadWithAReadListener() throws Exception {
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicInteger allDataRead = new AtomicInteger();
+
+        post("key-1", BODY, (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(204);
+        });
+
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(allDataRead).hasValue(1);
+    }
+
+    private MockHttpServletResponse post(String idempotencyKey, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/candidates");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER, null, List.of()));
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    /**
+     * Controller stand-in: echoes the request body with the given status
+     */
+    private FilterChain respond(int status) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            byte[] body = request.getInputStream().readAllBytes();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.setHeader(HttpHeaders.LOCATION, "/candidates/" + execution);
+            http.getOutputStream().write(body);
+        };
+    }
+}